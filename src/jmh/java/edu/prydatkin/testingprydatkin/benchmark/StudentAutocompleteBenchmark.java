@@ -0,0 +1,65 @@
+package edu.prydatkin.testingprydatkin.benchmark;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentAutocompleteBenchmark
+    @version 1.0.0
+    @since 10/18/2026 - 22.40
+*/
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.response.StudentNameSuggestion;
+import edu.prydatkin.testingprydatkin.service.StudentNameIndexService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// top-k prefix lookups on the in-memory name index, the autocomplete budget is well under a millisecond
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentAutocompleteBenchmark {
+    private static final String[] FIRST_NAMES = {"Anna", "Andrii", "Borys", "Olha", "Oksana", "Iryna", "Ivan",
+            "Mykola", "Sofiia", "Taras", "Yuliia", "Zoriana"};
+
+    @Param({"10000", "100000"})
+    private int students;
+
+    private StudentNameIndexService nameIndex;
+
+    @Setup
+    public void setUp() {
+        // the lookups never reach Mongo, only rebuild() does
+        nameIndex = new StudentNameIndexService(null);
+        for (int i = 0; i < students; i++) {
+            nameIndex.index(new Student(String.valueOf(i), FIRST_NAMES[i % FIRST_NAMES.length] + " " + i, 20,
+                    "Other"));
+        }
+    }
+
+    @Benchmark
+    public List<StudentNameSuggestion> shortPrefix() {
+        return nameIndex.suggest("an", 10);
+    }
+
+    @Benchmark
+    public List<StudentNameSuggestion> longPrefix() {
+        return nameIndex.suggest("oksana 4", 10);
+    }
+
+    @Benchmark
+    public List<StudentNameSuggestion> noMatch() {
+        return nameIndex.suggest("qq", 10);
+    }
+
+    @Benchmark
+    public void reindexOnUpdate() {
+        nameIndex.index("42", "Anna 42");
+    }
+}
@@ -0,0 +1,72 @@
+package edu.prydatkin.testingprydatkin.benchmark;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentJsonBenchmark
+    @version 1.0.0
+    @since 10/18/2026 - 14.40
+*/
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.prydatkin.testingprydatkin.model.Student;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson round trip of one Student as the controllers do it, by the number of updateDate entries
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentJsonBenchmark {
+
+    @Param({"0", "20", "1000", "10000"})
+    private int updateDates;
+
+    private ObjectMapper objectMapper;
+    private Student student;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // same defaults as the ObjectMapper Spring Boot configures
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 12, 0);
+        List<LocalDateTime> updates = new ArrayList<>(updateDates);
+        for (int i = 0; i < updateDates; i++) {
+            updates.add(start.plusMinutes(i));
+        }
+        student = Student.builder()
+                .id("6650a1f2c3d4e5f6a7b8c9d0")
+                .name("Anna")
+                .age(19)
+                .gender("Female")
+                .createDate(start)
+                .updateDate(updates)
+                .build();
+        json = objectMapper.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public Student deserialize() throws IOException {
+        return objectMapper.readValue(json, Student.class);
+    }
+}
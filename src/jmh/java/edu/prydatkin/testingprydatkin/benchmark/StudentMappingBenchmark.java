@@ -0,0 +1,89 @@
+package edu.prydatkin.testingprydatkin.benchmark;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentMappingBenchmark
+    @version 1.0.0
+    @since 10/18/2026 - 14.40
+*/
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// object creation and identity of Student, equals/hashCode sit on every cache, set and map lookup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentMappingBenchmark {
+
+    private StudentCreateRequest request;
+    private LocalDateTime now;
+    private Student left;
+    private Student right;
+    private Set<Student> students;
+
+    @Setup
+    public void setUp() {
+        request = new StudentCreateRequest("Anna", 19, "Female");
+        now = LocalDateTime.now();
+        left = new Student("6650a1f2c3d4e5f6a7b8c9d0", "Anna", 19, "Female");
+        right = new Student("6650a1f2c3d4e5f6a7b8c9d0", "Anna", 19, "Female");
+        students = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            students.add(new Student(String.valueOf(i), "Student " + i, 18 + i % 10, "Other"));
+        }
+    }
+
+    @Benchmark
+    public Student builder() {
+        return Student.builder()
+                .name(request.name())
+                .age(request.age())
+                .gender(request.gender())
+                .createDate(now)
+                .updateDate(new ArrayList<>())
+                .build();
+    }
+
+    // what StudentService.mapToStudent does, the method itself is private
+    @Benchmark
+    public Student constructorFromRequest() {
+        Student student = new Student(request.name(), request.age(), request.gender());
+        student.setCreateDate(now);
+        student.setUpdateDate(new ArrayList<>());
+        return student;
+    }
+
+    @Benchmark
+    public boolean equalsSameId() {
+        return left.equals(right);
+    }
+
+    @Benchmark
+    public int hashCodeOfStudent() {
+        return left.hashCode();
+    }
+
+    @Benchmark
+    public boolean hashSetLookup() {
+        return students.contains(right);
+    }
+
+    @Benchmark
+    public List<Student> copyToList() {
+        return List.copyOf(students);
+    }
+}
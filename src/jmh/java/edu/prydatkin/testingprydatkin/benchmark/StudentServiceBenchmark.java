@@ -0,0 +1,110 @@
+package edu.prydatkin.testingprydatkin.benchmark;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentServiceBenchmark
+    @version 1.0.0
+    @since 10/18/2026 - 14.40
+*/
+
+import edu.prydatkin.testingprydatkin.config.StudentCacheProperties;
+import edu.prydatkin.testingprydatkin.config.UpdateHistoryProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.repository.StudentUpdateHistoryRepository;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.service.StudentCacheService;
+import edu.prydatkin.testingprydatkin.service.StudentETagService;
+import edu.prydatkin.testingprydatkin.service.StudentHistoryService;
+import edu.prydatkin.testingprydatkin.service.StudentNameIndexService;
+import edu.prydatkin.testingprydatkin.service.StudentPageService;
+import edu.prydatkin.testingprydatkin.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link StudentService} write paths with Mongo replaced by stub-only mocks, so the numbers cover the
+ * service, mapping and update building code and not the database. {@code create(StudentCreateRequest)}
+ * includes {@code mapToStudent}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentServiceBenchmark {
+
+    private StudentService studentService;
+    private Student student;
+    private StudentCreateRequest createRequest;
+    private StudentUpdateRequest updateRequest;
+
+    @Setup
+    public void setUp() {
+        // stubOnly: no invocation recording, otherwise the mocks would grow for the whole run
+        StudentRepository repository = mock(StudentRepository.class, withSettings().stubOnly());
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class, withSettings().stubOnly());
+        StudentUpdateHistoryRepository historyRepository = mock(StudentUpdateHistoryRepository.class,
+                withSettings().stubOnly());
+        when(repository.save(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.existsByGender(anyString())).thenReturn(false);
+        Student updated = new Student("1", "Anna", 20, "Female");
+        updated.setUpdateDate(new ArrayList<>());
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Student.class))).thenReturn(updated);
+
+        StudentCacheService cacheService = new StudentCacheService(
+                new StudentCacheProperties(true, 10_000, Duration.ofMinutes(10)));
+        studentService = new StudentService(repository, mongoTemplate,
+                new StudentHistoryService(mongoTemplate, historyRepository, new UpdateHistoryProperties(20, true),
+                        cacheService),
+                cacheService, new StudentETagService(mongoTemplate, new StudentPageService(mongoTemplate), cacheService),
+                new StudentNameIndexService(mongoTemplate));
+
+        student = Student.builder()
+                .id("1")
+                .name("Anna")
+                .age(19)
+                .gender("Female")
+                .createDate(LocalDateTime.now())
+                .updateDate(new ArrayList<>())
+                .build();
+        createRequest = new StudentCreateRequest("Anna", 19, "Female");
+        updateRequest = new StudentUpdateRequest("1", "Anna", 20, "Female");
+    }
+
+    @Benchmark
+    public Student createEntity() {
+        return studentService.create(student);
+    }
+
+    @Benchmark
+    public Student createFromRequest() {
+        return studentService.create(createRequest);
+    }
+
+    @Benchmark
+    public Student updateEntity() {
+        return studentService.update(student);
+    }
+
+    @Benchmark
+    public Student updateFromRequest() {
+        return studentService.update(updateRequest);
+    }
+}
@@ -0,0 +1,19 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class AsyncConfiguration
+    @version 1.0.0
+    @since 10/18/2026 - 23.00
+*/
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async methods run on Boot's applicationTaskExecutor (spring.task.execution.*), virtual threads when enabled
+@EnableAsync
+@Configuration
+public class AsyncConfiguration {
+}
@@ -0,0 +1,25 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class MetricsConfiguration
+    @version 1.0.0
+    @since 10/18/2026 - 15.20
+*/
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// HTTP, repository, Mongo command and pool metrics come from Spring Boot, this adds the service layer timers
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,45 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class MongoPoolConfiguration
+    @version 1.0.0
+    @since 10/18/2026 - 14.05
+*/
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Configuration
+public class MongoPoolConfiguration {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoPoolCustomizer(MongoPoolProperties properties) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(properties.maxSize())
+                .minSize(properties.minSize())
+                .maxWaitTime(properties.maxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnecting(properties.maxConnecting()));
+    }
+
+    // spring.threads.virtual.enabled is silently ignored below Java 21, say so instead of running on platform threads
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkVirtualThreads(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && Runtime.version().feature() < 21) {
+            log.warn("Virtual threads need Java 21 or later, running on platform threads (Java {})",
+                    Runtime.version().feature());
+        }
+    }
+}
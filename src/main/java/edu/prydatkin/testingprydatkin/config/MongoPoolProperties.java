@@ -0,0 +1,24 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class MongoPoolProperties
+    @version 1.0.0
+    @since 10/18/2026 - 14.05
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// defaults are the driver's own, application-virtual-threads.properties explains how to size them
+@ConfigurationProperties("student.mongo.pool")
+public record MongoPoolProperties(@DefaultValue("100") int maxSize,
+                                  @DefaultValue("0") int minSize,
+                                  @DefaultValue("2m") Duration maxWaitTime,
+                                  @DefaultValue("2") int maxConnecting) {
+
+}
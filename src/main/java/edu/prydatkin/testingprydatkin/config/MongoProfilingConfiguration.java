@@ -0,0 +1,41 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class MongoProfilingConfiguration
+    @version 1.0.0
+    @since 10/18/2026 - 10.50
+*/
+
+import com.mongodb.client.MongoClient;
+import edu.prydatkin.testingprydatkin.monitoring.SlowQueryEndpoint;
+import edu.prydatkin.testingprydatkin.monitoring.SlowQueryProfiler;
+import edu.prydatkin.testingprydatkin.monitoring.SlowQueryProfilerProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "student.profiler", name = "enabled", matchIfMissing = true)
+public class MongoProfilingConfiguration {
+
+    @Bean
+    public SlowQueryProfiler slowQueryProfiler(SlowQueryProfilerProperties properties,
+                                               ObjectProvider<MongoClient> mongoClient) {
+        return new SlowQueryProfiler(properties, mongoClient);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryProfilerCustomizer(SlowQueryProfiler profiler) {
+        return settings -> settings.addCommandListener(profiler);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryProfiler profiler) {
+        return new SlowQueryEndpoint(profiler);
+    }
+}
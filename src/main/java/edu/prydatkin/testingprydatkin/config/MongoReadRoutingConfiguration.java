@@ -0,0 +1,51 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class MongoReadRoutingConfiguration
+    @version 1.0.0
+    @since 10/19/2026 - 20.30
+*/
+
+import com.mongodb.ReadPreference;
+import edu.prydatkin.testingprydatkin.monitoring.MongoReadRouteMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read/write splitting for the blocking and the reactive Mongo client.
+ * <p>
+ * With {@code student.mongo.read-routing.enabled} every read defaults to {@code secondaryPreferred}, limited to
+ * members at most {@code max-staleness} behind the primary, so list, lookup, search and stats traffic (and any
+ * read added later) leaves the primary. Writes always go to the primary; reads that decide a write (the gender
+ * rule, bulk update existence checks, the history migration) are pinned to it with {@code primary}. getById and
+ * ETag lookups stay on secondaries; the getById cache ttl is capped at {@code max-staleness}, so a cached copy
+ * does not outlive the lag it was read with. Only the rare whole-collection reads whose result is kept on the
+ * node, the name index rebuild and the change stream, and {@code $indexStats} go to the primary as well.
+ */
+@Configuration
+public class MongoReadRoutingConfiguration {
+
+    @Bean
+    public MongoReadRouteMetrics mongoReadRouteMetrics(MeterRegistry registry) {
+        return new MongoReadRouteMetrics(registry);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoReadRoutingCustomizer(MongoReadRoutingProperties properties,
+                                                                         MongoReadRouteMetrics metrics) {
+        return settings -> {
+            settings.addCommandListener(metrics);
+            if (properties.enabled()) {
+                settings.readPreference(ReadPreference.secondaryPreferred(properties.maxStaleness().toSeconds(),
+                        TimeUnit.SECONDS));
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class MongoReadRoutingProperties
+    @version 1.0.0
+    @since 10/19/2026 - 20.10
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// the driver rejects a maxStaleness below 90 seconds
+@ConfigurationProperties("student.mongo.read-routing")
+public record MongoReadRoutingProperties(@DefaultValue("false") boolean enabled,
+                                         @DefaultValue("90s") Duration maxStaleness) {
+
+}
@@ -0,0 +1,21 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveAuditionConfiguration
+    @version 1.0.0
+    @since 10/20/2026 - 10.15
+*/
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+
+// auditing for ReactiveMongoTemplate writes, which only exist in reactive mode
+@Profile("reactive")
+@EnableReactiveMongoAuditing
+@Configuration
+public class ReactiveAuditionConfiguration {
+}
@@ -0,0 +1,37 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveBlockingConfiguration
+    @version 1.0.0
+    @since 10/20/2026 - 12.20
+*/
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+// in reactive mode, controller methods that do not return Mono or Flux (the admin maintenance endpoints, which
+// still run on the blocking MongoTemplate) are called on Boot's applicationTaskExecutor instead of an event loop
+@Profile("reactive")
+@Configuration
+public class ReactiveBlockingConfiguration implements WebFluxConfigurer {
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    public ReactiveBlockingConfiguration(
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+            AsyncTaskExecutor applicationTaskExecutor) {
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(applicationTaskExecutor);
+    }
+}
@@ -0,0 +1,67 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StartupConfiguration
+    @version 1.0.0
+    @since 10/19/2026 - 10.15
+*/
+
+import edu.prydatkin.testingprydatkin.monitoring.FirstRequestTimer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.WebFilter;
+
+import java.io.IOException;
+
+@Configuration
+public class StartupConfiguration {
+
+    @Bean
+    public FirstRequestTimer firstRequestTimer() {
+        return new FirstRequestTimer();
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public OncePerRequestFilter firstRequestTimerFilter(FirstRequestTimer timer) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    timer.requestCompleted();
+                }
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public WebFilter firstRequestTimerWebFilter(FirstRequestTimer timer) {
+        return (exchange, chain) -> chain.filter(exchange).doFinally(signal -> timer.requestCompleted());
+    }
+
+    // with spring.main.lazy-initialization (fast-startup profile) the controllers, and through them the
+    // services, repositories and the Mongo client, stay eager: otherwise the first request would pay for them
+    @Bean
+    @Profile("fast-startup")
+    public static LazyInitializationExcludeFilter eagerRequestPath() {
+        return (beanName, beanDefinition, beanType) ->
+                AnnotatedElementUtils.hasAnnotation(beanType, RestController.class);
+    }
+}
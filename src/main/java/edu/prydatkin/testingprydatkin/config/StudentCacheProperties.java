@@ -0,0 +1,22 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentCacheProperties
+    @version 1.0.0
+    @since 10/17/2026 - 22.10
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("student.cache")
+public record StudentCacheProperties(@DefaultValue("true") boolean enabled,
+                                     @DefaultValue("10000") long maximumSize,
+                                     @DefaultValue("10m") Duration ttl) {
+
+}
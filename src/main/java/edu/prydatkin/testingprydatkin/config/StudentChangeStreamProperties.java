@@ -0,0 +1,24 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentChangeStreamProperties
+    @version 1.0.0
+    @since 10/19/2026 - 17.05
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// consumerId names this node's resume token, blank means the host name
+@ConfigurationProperties("student.change-stream")
+public record StudentChangeStreamProperties(@DefaultValue("false") boolean enabled,
+                                            @DefaultValue("") String consumerId,
+                                            @DefaultValue("1s") Duration tokenSaveInterval,
+                                            @DefaultValue("30s") Duration maxBackoff) {
+
+}
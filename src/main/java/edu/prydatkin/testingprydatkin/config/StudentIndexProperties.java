@@ -0,0 +1,20 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentIndexProperties
+    @version 1.0.0
+    @since 10/18/2026 - 11.20
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// the startup build runs in the background, readiness does not wait for it; switch ensureOnStartup off to choose
+// when indexes are built through the admin endpoint instead
+@ConfigurationProperties("student.indexes")
+public record StudentIndexProperties(@DefaultValue("true") boolean ensureOnStartup) {
+
+}
@@ -0,0 +1,27 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentStatsProperties
+    @version 1.0.0
+    @since 10/18/2026 - 20.05
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * @param ageBoundaries ascending lower bounds of the age histogram buckets, each bucket ends where the next
+ *                      one starts; ages outside of them are counted in one extra bucket
+ * @param createdDays   how many days back the creations per day are reported
+ */
+@ConfigurationProperties("student.stats")
+public record StudentStatsProperties(@DefaultValue({"0", "18", "22", "26", "30", "40", "60", "150"})
+                                     List<Integer> ageBoundaries,
+                                     @DefaultValue("30") int createdDays) {
+
+}
@@ -0,0 +1,25 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentWriteBehindProperties
+    @version 1.0.0
+    @since 10/19/2026 - 14.20
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("student.write-behind")
+public record StudentWriteBehindProperties(@DefaultValue("false") boolean enabled,
+                                           @DefaultValue("10000") int capacity,
+                                           @DefaultValue("1000") int batchSize,
+                                           @DefaultValue("50ms") Duration flushInterval,
+                                           @DefaultValue("3") int maxRetries,
+                                           @DefaultValue("30s") Duration shutdownTimeout) {
+
+}
@@ -0,0 +1,27 @@
+package edu.prydatkin.testingprydatkin.config;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class UpdateHistoryProperties
+    @version 1.0.0
+    @since 10/17/2026 - 21.05
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param embeddedLimit how many of the latest update timestamps stay in the student document,
+ *                      0 or less keeps the whole list embedded
+ * @param archive       whether every update timestamp is also written to the history collection
+ */
+@ConfigurationProperties("student.update-history")
+public record UpdateHistoryProperties(@DefaultValue("20") int embeddedLimit,
+                                      @DefaultValue("true") boolean archive) {
+
+    public boolean bounded() {
+        return embeddedLimit > 0;
+    }
+}
@@ -0,0 +1,204 @@
+package edu.prydatkin.testingprydatkin.controller;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveStudentRestController
+    @version 1.0.0
+    @since 10/18/2026 - 12.50
+*/
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.request.StudentSearchRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.response.StudentBatchItemResult;
+import edu.prydatkin.testingprydatkin.response.StudentBatchUpdateResult;
+import edu.prydatkin.testingprydatkin.response.StudentNameSuggestion;
+import edu.prydatkin.testingprydatkin.response.StudentPage;
+import edu.prydatkin.testingprydatkin.response.StudentSearchResult;
+import edu.prydatkin.testingprydatkin.response.StudentStats;
+import edu.prydatkin.testingprydatkin.service.ReactiveStudentService;
+import edu.prydatkin.testingprydatkin.service.StudentETagService;
+import edu.prydatkin.testingprydatkin.service.StudentNameIndexService;
+import edu.prydatkin.testingprydatkin.service.StudentWriteBehindService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+// same endpoints as StudentRestController, served by WebFlux when the "reactive" profile is active
+@Profile("reactive")
+@RestController
+@RequestMapping("api/v1/student/")
+@RequiredArgsConstructor
+public class ReactiveStudentRestController {
+
+    private final ReactiveStudentService reactiveStudentService;
+    private final StudentETagService studentETagService;
+    private final StudentNameIndexService studentNameIndexService;
+    private final StudentWriteBehindService studentWriteBehindService;
+
+    // read all, one keyset page at a time
+    @GetMapping
+    public Mono<ResponseEntity<StudentPage<Student>>> showAll(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer limit,
+                                                              @RequestParam(required = false) String sort) {
+        return reactiveStudentService.getPage(new StudentPageRequest(cursor, limit, sort))
+                .map(page -> ResponseEntity.ok().eTag(studentETagService.pageETag(page)).body(page));
+    }
+
+    // only the requested fields, e.g. ?fields=name,age
+    @GetMapping(params = "fields")
+    public Mono<StudentPage<Map<String, Object>>> showAll(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer limit,
+                                                          @RequestParam(required = false) String sort,
+                                                          @RequestParam String fields) {
+        return reactiveStudentService.getPage(new StudentPageRequest(cursor, limit, sort), fields);
+    }
+
+    // filtered and sorted offset pages, e.g. ?gender=Female&minAge=18&maxAge=21&sort=name&total=true
+    @GetMapping("search")
+    public Mono<StudentSearchResult> search(@RequestParam(required = false) String gender,
+                                            @RequestParam(required = false) Integer minAge,
+                                            @RequestParam(required = false) Integer maxAge,
+                                            @RequestParam(required = false) String namePrefix,
+                                            @RequestParam(required = false) LocalDate createdFrom,
+                                            @RequestParam(required = false) LocalDate createdTo,
+                                            @RequestParam(required = false) String sort,
+                                            @RequestParam(required = false) Integer page,
+                                            @RequestParam(required = false) Integer size,
+                                            @RequestParam(defaultValue = "false") boolean total) {
+        return reactiveStudentService.search(new StudentSearchRequest(gender, minAge, maxAge, namePrefix, createdFrom, createdTo,
+                sort, page, size, total));
+    }
+
+    // type-ahead on names, case and diacritics are ignored; served from the node-local name index
+    @GetMapping("autocomplete")
+    public Flux<StudentNameSuggestion> autocomplete(@RequestParam String prefix,
+                                                    @RequestParam(required = false) Integer limit) {
+        return Flux.defer(() -> Flux.fromIterable(studentNameIndexService.suggest(prefix, limit)));
+    }
+
+    // counts by gender, age histogram, min/max/avg age and creations per day, aggregated by Mongo
+    @GetMapping("stats")
+    public Mono<StudentStats> showStats(@RequestParam(required = false) String ageBuckets,
+                                        @RequestParam(required = false) Integer days) {
+        return reactiveStudentService.getStats(ageBuckets, days);
+    }
+
+    // export all as NDJSON, one line per document with backpressure down to the Mongo cursor
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Student> export() {
+        return reactiveStudentService.getAll();
+    }
+
+    // read one, WebFlux answers a matching If-None-Match with 304 before the body is written
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<Student>> showOneById(@PathVariable String id) {
+        return reactiveStudentService.getById(id)
+                .map(student -> ResponseEntity.ok().eTag(studentETagService.etag(student)).body(student))
+                .defaultIfEmpty(ResponseEntity.ok().build());
+    }
+
+    @GetMapping(value = "{id}", params = "fields")
+    public Mono<Map<String, Object>> showOneById(@PathVariable String id, @RequestParam String fields) {
+        return reactiveStudentService.getById(id, fields);
+    }
+
+    @GetMapping("{id}/history")
+    public Mono<List<LocalDateTime>> showHistory(@PathVariable String id,
+                                                 @RequestParam(required = false) LocalDate from,
+                                                 @RequestParam(required = false) LocalDate to) {
+        return reactiveStudentService.getHistory(id, from, to);
+    }
+
+    // create
+    @PostMapping
+    public Mono<Student> insert(@RequestBody Student student) {
+        return reactiveStudentService.create(student);
+    }
+
+    // with student.write-behind.enabled the create is queued and answered with 202 and the assigned id
+    @PostMapping("/dto")
+    public Mono<ResponseEntity<Student>> insert(@RequestBody StudentCreateRequest request) {
+        if (studentWriteBehindService.isEnabled()) {
+            // only validation and a queue offer, nothing that blocks
+            return Mono.fromCallable(() -> ResponseEntity.accepted().body(studentWriteBehindService.enqueue(request)));
+        }
+        return reactiveStudentService.create(request)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().build());
+    }
+
+    @PostMapping("/dto/batch")
+    public Mono<List<StudentBatchItemResult>> insertAll(@RequestBody List<StudentCreateRequest> requests) {
+        return reactiveStudentService.createAll(requests);
+    }
+
+    // edit; with If-Match the write only applies to that version of the student, otherwise 412
+    @PutMapping
+    public Mono<Student> edit(@RequestBody Student student,
+                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return reactiveStudentService.update(student, ifMatch);
+    }
+
+    @PutMapping("/dto")
+    public Mono<Student> edit(@RequestBody StudentUpdateRequest request,
+                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return reactiveStudentService.update(request, ifMatch);
+    }
+
+    @PutMapping("/dto/batch")
+    public Mono<StudentBatchUpdateResult> editAll(@RequestBody List<StudentUpdateRequest> requests) {
+        return reactiveStudentService.updateAll(requests);
+    }
+
+    // delete
+    @DeleteMapping("{id}")
+    public Mono<Void> delete(@PathVariable String id) {
+        return reactiveStudentService.deleteById(id);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleBadRequest(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+
+    // POST of an id that is already stored, PUT with If-Match updates it
+    @ExceptionHandler(DuplicateKeyException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleConflict(DuplicateKeyException e) {
+        return "Student already exists, update it with PUT";
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public String handlePreconditionFailed(OptimisticLockingFailureException e) {
+        return e.getMessage();
+    }
+
+    // write-behind queue full
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleOverloaded(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+}
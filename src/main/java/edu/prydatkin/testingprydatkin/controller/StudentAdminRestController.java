@@ -0,0 +1,70 @@
+package edu.prydatkin.testingprydatkin.controller;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentAdminRestController
+    @version 1.0.0
+    @since 10/17/2026 - 21.40
+*/
+
+import edu.prydatkin.testingprydatkin.response.StudentCacheStats;
+import edu.prydatkin.testingprydatkin.response.StudentIndexBuild;
+import edu.prydatkin.testingprydatkin.response.StudentIndexUsage;
+import edu.prydatkin.testingprydatkin.service.StudentCacheService;
+import edu.prydatkin.testingprydatkin.service.StudentHistoryService;
+import edu.prydatkin.testingprydatkin.service.StudentIndexService;
+import edu.prydatkin.testingprydatkin.service.StudentNameIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/admin/student/")
+@RequiredArgsConstructor
+public class StudentAdminRestController {
+
+    private final StudentHistoryService studentHistoryService;
+    private final StudentCacheService studentCacheService;
+    private final StudentIndexService studentIndexService;
+    private final StudentNameIndexService studentNameIndexService;
+
+    // archives the embedded updateDate lists and trims the oversized ones, returns the number of trimmed students
+    @PostMapping("history/migrate")
+    public long migrateHistory(@RequestParam(defaultValue = "500") int batchSize) {
+        return studentHistoryService.migrateOversized(batchSize);
+    }
+
+    // hit/miss/eviction counters of the node-local getById cache
+    @GetMapping("cache")
+    public StudentCacheStats showCacheStats() {
+        return studentCacheService.stats();
+    }
+
+    // builds missing indexes and answers once they are done, e.g. with ensure-on-startup switched off
+    @PostMapping("indexes")
+    public List<String> ensureIndexes() {
+        return studentIndexService.ensureIndexes();
+    }
+
+    // progress of the last index build, the startup one runs in the background
+    @GetMapping("indexes/build")
+    public StudentIndexBuild showIndexBuild() {
+        return studentIndexService.getBuild();
+    }
+
+    // reloads the autocomplete name index of this node, returns the number of indexed names;
+    // suggestions keep coming from the current index until the reloaded one is complete
+    @PostMapping("autocomplete/rebuild")
+    public int rebuildAutocomplete() {
+        return studentNameIndexService.rebuild();
+    }
+
+    // every index with its $indexStats access counter, to check that it pays for its write cost
+    @GetMapping("indexes")
+    public List<StudentIndexUsage> showIndexUsage() {
+        return studentIndexService.getIndexUsage();
+    }
+}
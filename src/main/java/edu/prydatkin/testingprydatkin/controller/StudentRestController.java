@@ -9,32 +9,167 @@ package edu.prydatkin.testingprydatkin.controller;
     @since 5/3/2025 - 13.06
 */
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import edu.prydatkin.testingprydatkin.model.Student;
 import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.request.StudentSearchRequest;
 import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.response.StudentBatchItemResult;
+import edu.prydatkin.testingprydatkin.response.StudentBatchUpdateResult;
+import edu.prydatkin.testingprydatkin.response.StudentNameSuggestion;
+import edu.prydatkin.testingprydatkin.response.StudentPage;
+import edu.prydatkin.testingprydatkin.response.StudentSearchResult;
+import edu.prydatkin.testingprydatkin.response.StudentStats;
+import edu.prydatkin.testingprydatkin.service.StudentBulkService;
+import edu.prydatkin.testingprydatkin.service.StudentETagService;
+import edu.prydatkin.testingprydatkin.service.StudentNameIndexService;
+import edu.prydatkin.testingprydatkin.service.StudentPageService;
+import edu.prydatkin.testingprydatkin.service.StudentProjectionService;
+import edu.prydatkin.testingprydatkin.service.StudentSearchService;
 import edu.prydatkin.testingprydatkin.service.StudentService;
+import edu.prydatkin.testingprydatkin.service.StudentStatsService;
+import edu.prydatkin.testingprydatkin.service.StudentWriteBehindService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
 
+// servlet mode, ReactiveStudentRestController takes these endpoints over with the "reactive" profile
+@Profile("!reactive")
 @RestController
 @RequestMapping("api/v1/student/")
 @RequiredArgsConstructor
 public class StudentRestController {
 
     private final StudentService studentService;
+    private final StudentPageService studentPageService;
+    private final StudentBulkService studentBulkService;
+    private final StudentProjectionService studentProjectionService;
+    private final StudentETagService studentETagService;
+    private final StudentStatsService studentStatsService;
+    private final StudentSearchService studentSearchService;
+    private final StudentNameIndexService studentNameIndexService;
+    private final StudentWriteBehindService studentWriteBehindService;
+    private final ObjectMapper objectMapper;
 
-    // read all
+    // read all, one keyset page at a time; a matching If-None-Match is answered from the versions alone
     @GetMapping
-    public List<Student> showAll() {
-        return studentService.getAll();
+    public ResponseEntity<StudentPage<Student>> showAll(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit,
+                                                        @RequestParam(required = false) String sort,
+                                                        WebRequest webRequest) {
+        StudentPageRequest request = new StudentPageRequest(cursor, limit, sort);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(studentETagService.pageETagOf(request))) {
+            return null;
+        }
+        StudentPage<Student> page = studentPageService.getPage(request);
+        return ResponseEntity.ok().eTag(studentETagService.pageETag(page)).body(page);
     }
 
-    // read one
+    // only the requested fields, e.g. ?fields=name,age
+    @GetMapping(params = "fields")
+    public StudentPage<Map<String, Object>> showAll(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer limit,
+                                                    @RequestParam(required = false) String sort,
+                                                    @RequestParam String fields) {
+        return studentProjectionService.getPage(new StudentPageRequest(cursor, limit, sort), fields);
+    }
+
+    // filtered and sorted offset pages, e.g. ?gender=Female&minAge=18&maxAge=21&sort=name&total=true
+    @GetMapping("search")
+    public StudentSearchResult search(@RequestParam(required = false) String gender,
+                                      @RequestParam(required = false) Integer minAge,
+                                      @RequestParam(required = false) Integer maxAge,
+                                      @RequestParam(required = false) String namePrefix,
+                                      @RequestParam(required = false) LocalDate createdFrom,
+                                      @RequestParam(required = false) LocalDate createdTo,
+                                      @RequestParam(required = false) String sort,
+                                      @RequestParam(required = false) Integer page,
+                                      @RequestParam(required = false) Integer size,
+                                      @RequestParam(defaultValue = "false") boolean total) {
+        return studentSearchService.search(new StudentSearchRequest(gender, minAge, maxAge, namePrefix, createdFrom, createdTo,
+                sort, page, size, total));
+    }
+
+    // type-ahead on names, case and diacritics are ignored; served from the node-local name index
+    @GetMapping("autocomplete")
+    public List<StudentNameSuggestion> autocomplete(@RequestParam String prefix,
+                                                    @RequestParam(required = false) Integer limit) {
+        return studentNameIndexService.suggest(prefix, limit);
+    }
+
+    // counts by gender, age histogram, min/max/avg age and creations per day, aggregated by Mongo
+    @GetMapping("stats")
+    public StudentStats showStats(@RequestParam(required = false) String ageBuckets,
+                                  @RequestParam(required = false) Integer days) {
+        return studentStatsService.getStats(ageBuckets, days);
+    }
+
+    // export all as NDJSON, written straight from the Mongo cursor; a bare StreamingResponseBody would go out
+    // without a Content-Type, produces only selects the mapping
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(outputStream -> {
+            ObjectWriter writer = objectMapper.writerFor(Student.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (Stream<Student> students = studentService.streamAll();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                Iterator<Student> iterator = students.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, iterator.next());
+                    generator.writeRaw('\n');
+                }
+            }
+        });
+    }
+
+    // read one; a matching If-None-Match is answered from the version alone
     @GetMapping("{id}")
-    public Student showOneById(@PathVariable String id) {
-        return studentService.getById(id);
+    public ResponseEntity<Student> showOneById(@PathVariable String id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = studentETagService.etagOf(id);
+            if (etag != null && webRequest.checkNotModified(etag)) {
+                return null;
+            }
+        }
+        Student student = studentService.getById(id);
+        return student == null ? ResponseEntity.ok(null)
+                : ResponseEntity.ok().eTag(studentETagService.etag(student)).body(student);
+    }
+
+    @GetMapping(value = "{id}", params = "fields")
+    public Map<String, Object> showOneById(@PathVariable String id, @RequestParam String fields) {
+        return studentProjectionService.getById(id, fields);
+    }
+
+    // full update history, including timestamps no longer embedded in the document
+    @GetMapping("{id}/history")
+    public List<LocalDateTime> showHistory(@PathVariable String id,
+                                           @RequestParam(required = false) LocalDate from,
+                                           @RequestParam(required = false) LocalDate to) {
+        return studentService.getHistory(id, from, to);
     }
 
     // create
@@ -43,20 +178,36 @@ public class StudentRestController {
         return studentService.create(student);
     }
 
+    // with student.write-behind.enabled the create is queued and answered with 202 and the assigned id
     @PostMapping("/dto")
-    public Student insert(@RequestBody StudentCreateRequest request) {
-        return studentService.create(request);
+    public ResponseEntity<Student> insert(@RequestBody StudentCreateRequest request) {
+        if (studentWriteBehindService.isEnabled()) {
+            return ResponseEntity.accepted().body(studentWriteBehindService.enqueue(request));
+        }
+        return ResponseEntity.ok(studentService.create(request));
+    }
+
+    @PostMapping("/dto/batch")
+    public List<StudentBatchItemResult> insertAll(@RequestBody List<StudentCreateRequest> requests) {
+        return studentBulkService.createAll(requests);
     }
 
-    // edit
+    // edit; with If-Match the write only applies to that version of the student, otherwise 412
     @PutMapping
-    public Student edit(@RequestBody Student student) {
-        return studentService.update(student);
+    public Student edit(@RequestBody Student student,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return studentService.update(student, ifMatch);
     }
 
     @PutMapping("/dto")
-    public Student edit(@RequestBody StudentUpdateRequest request) {
-        return studentService.update(request);
+    public Student edit(@RequestBody StudentUpdateRequest request,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return studentService.update(request, ifMatch);
+    }
+
+    @PutMapping("/dto/batch")
+    public StudentBatchUpdateResult editAll(@RequestBody List<StudentUpdateRequest> requests) {
+        return studentBulkService.updateAll(requests);
     }
 
     // delete
@@ -64,4 +215,31 @@ public class StudentRestController {
     public void delete(@PathVariable String id) {
         studentService.deleteById(id);
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleBadRequest(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+
+    // POST of an id that is already stored, PUT with If-Match updates it
+    @ExceptionHandler(DuplicateKeyException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleConflict(DuplicateKeyException e) {
+        return "Student already exists, update it with PUT";
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public String handlePreconditionFailed(OptimisticLockingFailureException e) {
+        return e.getMessage();
+    }
+
+    // write-behind queue full
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleOverloaded(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
 }
@@ -13,6 +13,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import org.springframework.cglib.core.Local;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
@@ -27,10 +30,20 @@ import java.util.List;
 @Builder
 @ToString
 @Document
+// gender_age also serves existsByGender through its prefix, createDate_id backs the createDate keyset pages;
+// name_id and age_id end in _id like the search sorts, so those come out of the index without an in-memory SORT,
+// and their prefixes answer name prefix and age range filters
+@CompoundIndexes({
+        @CompoundIndex(name = "gender_age", def = "{'gender': 1, 'age': 1}"),
+        @CompoundIndex(name = "createDate_id", def = "{'createDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "name_id", def = "{'name': 1, '_id': 1}"),
+        @CompoundIndex(name = "age_id", def = "{'age': 1, '_id': 1}")
+})
 public class Student {
 
     @Id
     private String id;
+    // name prefix searches are anchored regexes, which Mongo answers with a bounded scan of name_id
     private String name;
     private int age;
     private String gender;
@@ -38,6 +51,14 @@ public class Student {
     private LocalDateTime createDate;
     private List<LocalDateTime> updateDate;
 
+    // set by auditing on save and by StudentHistoryService.recordUpdate on $set updates
+    @LastModifiedDate
+    private LocalDateTime lastModifiedDate;
+
+    // incremented with $inc by every update, ETags and If-Match compare against it; missing counts as 0.
+    // Not @Version: clients and documents without it would turn save() into inserts of an existing _id
+    private Long version;
+
     public Student(String name, int age, String gender) {
         this.name = name;
         this.age = age;
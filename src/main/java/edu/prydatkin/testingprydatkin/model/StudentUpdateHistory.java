@@ -0,0 +1,35 @@
+package edu.prydatkin.testingprydatkin.model;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentUpdateHistory
+    @version 1.0.0
+    @since 10/17/2026 - 21.05
+*/
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// one document per student and day, holding every update timestamp of that day
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document("student_update_history")
+@CompoundIndex(name = "student_bucket", def = "{'studentId': 1, 'bucket': 1}", unique = true)
+public class StudentUpdateHistory {
+
+    @Id
+    private String id;
+    private String studentId;
+    private LocalDate bucket;
+    private List<LocalDateTime> updates;
+}
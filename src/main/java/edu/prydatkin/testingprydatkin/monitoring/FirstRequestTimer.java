@@ -0,0 +1,50 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class FirstRequestTimer
+    @version 1.0.0
+    @since 10/19/2026 - 10.10
+*/
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Time from JVM start until the first HTTP response is written, the cold-start cost a new instance pays
+ * before it serves traffic. Reported once in the log and as the {@code application.first.request.time} gauge.
+ * <p>
+ * Unlike {@code application.ready.time} it includes everything a request still initializes lazily, so it is
+ * the number to compare when tuning startup with AOT, CDS or lazy initialization.
+ */
+@Slf4j
+public class FirstRequestTimer implements MeterBinder {
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private volatile double firstRequestMillis = Double.NaN;
+
+    // one volatile read per request once the first one has been recorded
+    public void requestCompleted() {
+        if (recorded.get() || !recorded.compareAndSet(false, true)) {
+            return;
+        }
+        long millis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        firstRequestMillis = millis;
+        log.info("First request served {} ms after JVM start", millis);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("application.first.request.time", this, TimeUnit.MILLISECONDS,
+                        timer -> timer.firstRequestMillis)
+                .description("Time from JVM start until the first HTTP response was written")
+                .register(registry);
+    }
+}
@@ -0,0 +1,69 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class MongoReadRouteMetrics
+    @version 1.0.0
+    @since 10/19/2026 - 20.20
+*/
+
+import com.mongodb.connection.ServerType;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts read commands by the member that served them, {@code mongodb.reads{collection, command, server}} with
+ * {@code server} one of {@code primary}, {@code secondary}, {@code standalone} or {@code mongos}.
+ * <p>
+ * It records where reads actually went rather than what was asked for, so the split between primary and
+ * secondaries under {@code student.mongo.read-routing} can be checked per collection and command.
+ */
+public class MongoReadRouteMetrics implements CommandListener {
+    private static final Set<String> READS = Set.of("find", "getMore", "aggregate", "count", "distinct");
+
+    private final MeterRegistry registry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public MongoReadRouteMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String command = event.getCommandName();
+        if (!READS.contains(command)) {
+            return;
+        }
+        // getMore names the cursor, the collection is a separate field
+        BsonValue target = event.getCommand().get("getMore".equals(command) ? "collection" : command);
+        String collection = target != null && target.isString() ? target.asString().getValue() : "";
+        String server = server(event.getConnectionDescription().getServerType());
+        counters.computeIfAbsent(collection + '|' + command + '|' + server,
+                key -> Counter.builder("mongodb.reads")
+                        .description("Read commands by the replica set member that served them")
+                        .tag("collection", collection)
+                        .tag("command", command)
+                        .tag("server", server)
+                        .register(registry))
+                .increment();
+    }
+
+    private static String server(ServerType type) {
+        return switch (type) {
+            case REPLICA_SET_PRIMARY -> "primary";
+            case REPLICA_SET_SECONDARY -> "secondary";
+            case STANDALONE -> "standalone";
+            case SHARD_ROUTER -> "mongos";
+            default -> "other";
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQuery
+    @version 1.0.0
+    @since 10/18/2026 - 10.25
+*/
+
+import java.time.Instant;
+
+// shape is the command with every literal replaced by "?", so equal queries with other values group together
+public record SlowQuery(Instant at, String command, String database, String collection, String shape,
+                        long durationMillis, boolean failed) {
+
+}
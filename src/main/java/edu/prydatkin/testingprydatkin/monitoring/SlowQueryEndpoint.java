@@ -0,0 +1,33 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQueryEndpoint
+    @version 1.0.0
+    @since 10/18/2026 - 10.50
+*/
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+// GET /actuator/slowqueries for the report, DELETE to start over
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryProfiler profiler;
+
+    @ReadOperation
+    public SlowQueryReport slowQueries() {
+        return profiler.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        profiler.reset();
+    }
+}
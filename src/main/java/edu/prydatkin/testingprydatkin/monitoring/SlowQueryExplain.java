@@ -0,0 +1,18 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQueryExplain
+    @version 1.0.0
+    @since 10/18/2026 - 10.25
+*/
+
+import java.time.Instant;
+
+// winningPlan reads from the outermost stage inwards, e.g. "FETCH <- IXSCAN {gender: 1}" or "COLLSCAN"
+public record SlowQueryExplain(Instant at, String winningPlan, Long docsExamined, Long keysExamined,
+                               Long returned, Long executionTimeMillis, String error) {
+
+}
@@ -0,0 +1,241 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQueryProfiler
+    @version 1.0.0
+    @since 10/18/2026 - 10.35
+*/
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mongo driver {@link CommandListener} that records commands slower than {@code student.profiler.threshold}.
+ * <p>
+ * Every repository and {@code MongoTemplate} call ends up as a driver command, so listening here covers both.
+ * Slow queries are grouped by shape, and each shape is explained with {@code executionStats} at most once per
+ * {@code student.profiler.explain-interval} on a single background thread, so the winning plan and the
+ * docs examined vs. returned ratio show whether an index is missing. Only {@code student.profiler.sample-rate}
+ * of the commands keep a copy for their shape and explain; slow ones outside the sample are grouped by
+ * command and collection.
+ */
+public class SlowQueryProfiler implements CommandListener, DisposableBean {
+    private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct", "update",
+            "delete", "findAndModify");
+    private static final Set<String> IGNORED_FIELDS = Set.of("$db", "lsid", "$clusterTime", "txnNumber",
+            "$readPreference", "readConcern", "writeConcern", "apiVersion", "apiStrict", "apiDeprecationErrors",
+            "cursor", "batchSize", "singleBatch", "maxTimeMS", "comment", "ordered", "bypassDocumentValidation");
+    private static final Set<String> LITERAL_FIELDS = Set.of("sort", "projection", "hint", "key");
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private final SlowQueryProfilerProperties properties;
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final Map<Integer, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> recent = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger recentSize = new AtomicInteger();
+    private final Map<String, SlowQueryShapeStats> shapes = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryProfiler(SlowQueryProfilerProperties properties, ObjectProvider<MongoClient> mongoClient) {
+        this.properties = properties;
+        this.mongoClient = mongoClient;
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonValue target = event.getCommand().get(event.getCommandName());
+        if (target == null || !target.isString() || inFlight.size() >= MAX_IN_FLIGHT) {
+            return;
+        }
+        // the event's command is only valid during the callback and is not known to be slow yet, so only a
+        // sample of the explainable ones is copied; the others are grouped by command and collection if slow
+        BsonDocument command = EXPLAINABLE.contains(event.getCommandName()) && sampled()
+                ? event.getCommand().clone() : null;
+        inFlight.put(event.getRequestId(), new InFlight(target.asString().getValue(), command));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getDatabaseName(),
+                event.getElapsedTime(TimeUnit.MILLISECONDS), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getDatabaseName(),
+                event.getElapsedTime(TimeUnit.MILLISECONDS), true);
+    }
+
+    public SlowQueryReport report() {
+        List<SlowQueryShape> worst = shapes.values().stream()
+                .map(SlowQueryShapeStats::snapshot)
+                .sorted(Comparator.comparingLong(SlowQueryShape::maxMillis).reversed())
+                .toList();
+        return new SlowQueryReport(properties.threshold().toMillis(), List.copyOf(recent), worst);
+    }
+
+    public void reset() {
+        recent.clear();
+        recentSize.set(0);
+        shapes.clear();
+    }
+
+    @Override
+    public void destroy() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void completed(int requestId, String commandName, String database, long elapsedMillis, boolean failed) {
+        InFlight started = inFlight.remove(requestId);
+        if (started == null || elapsedMillis < properties.threshold().toMillis()) {
+            return;
+        }
+        String shape = commandName + " " + started.collection()
+                + (started.command() == null ? "" : " " + shapeOf(started.command(), commandName).toJson());
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), commandName, database, started.collection(), shape,
+                elapsedMillis, failed);
+
+        recent.addFirst(slowQuery);
+        if (recentSize.incrementAndGet() > properties.capacity() && recent.pollLast() != null) {
+            recentSize.decrementAndGet();
+        }
+
+        SlowQueryShapeStats stats = shapes.get(shape);
+        if (stats == null && shapes.size() < properties.capacity()) {
+            stats = shapes.computeIfAbsent(shape,
+                    key -> new SlowQueryShapeStats(key, commandName, started.collection()));
+        }
+        if (stats == null) {
+            return;
+        }
+        stats.record(slowQuery);
+        if (properties.explain() && started.command() != null && stats.claimExplain(properties.explainInterval())) {
+            SlowQueryShapeStats target = stats;
+            explainExecutor.execute(() -> target.explained(explain(database, started.command(), commandName)));
+        }
+    }
+
+    private boolean sampled() {
+        double rate = properties.sampleRate();
+        return rate >= 1 || rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private SlowQueryExplain explain(String database, BsonDocument command, String commandName) {
+        try {
+            BsonDocument explainable = new BsonDocument();
+            command.forEach((key, value) -> {
+                if (!IGNORED_FIELDS.contains(key) || "cursor".equals(key) && "aggregate".equals(commandName)) {
+                    explainable.put(key, value);
+                }
+            });
+            BsonDocument result = mongoClient.getObject().getDatabase(database)
+                    .runCommand(new BsonDocument("explain", explainable)
+                            .append("verbosity", new BsonString("executionStats")), BsonDocument.class);
+
+            BsonDocument planner = result.getDocument("queryPlanner", null);
+            BsonDocument executionStats = result.getDocument("executionStats", null);
+            if (planner == null && result.isArray("stages") && !result.getArray("stages").isEmpty()) {
+                // aggregation explains wrap the query part in the first $cursor stage
+                BsonDocument cursor = result.getArray("stages").get(0).asDocument().getDocument("$cursor", null);
+                if (cursor != null) {
+                    planner = cursor.getDocument("queryPlanner", null);
+                    executionStats = cursor.getDocument("executionStats", null);
+                }
+            }
+            String winningPlan = null;
+            if (planner != null && planner.isDocument("winningPlan")) {
+                BsonDocument plan = planner.getDocument("winningPlan");
+                winningPlan = describe(plan.isDocument("queryPlan") ? plan.getDocument("queryPlan") : plan);
+            }
+            return new SlowQueryExplain(Instant.now(), winningPlan,
+                    number(executionStats, "totalDocsExamined"), number(executionStats, "totalKeysExamined"),
+                    number(executionStats, "nReturned"), number(executionStats, "executionTimeMillis"), null);
+        } catch (RuntimeException e) {
+            return new SlowQueryExplain(Instant.now(), null, null, null, null, null, e.getMessage());
+        }
+    }
+
+    private String describe(BsonDocument stage) {
+        StringBuilder description = new StringBuilder(stage.getString("stage", new BsonString("?")).getValue());
+        if (stage.isDocument("keyPattern")) {
+            description.append(' ').append(stage.getDocument("keyPattern").toJson());
+        }
+        if (stage.isDocument("inputStage")) {
+            description.append(" <- ").append(describe(stage.getDocument("inputStage")));
+        } else if (stage.isArray("inputStages")) {
+            List<String> inputs = new ArrayList<>();
+            stage.getArray("inputStages").forEach(input -> inputs.add(describe(input.asDocument())));
+            description.append(" <- ").append(inputs);
+        }
+        return description.toString();
+    }
+
+    private Long number(BsonDocument document, String key) {
+        if (document == null || !document.containsKey(key) || !document.get(key).isNumber()) {
+            return null;
+        }
+        return document.getNumber(key).longValue();
+    }
+
+    private BsonDocument shapeOf(BsonDocument command, String commandName) {
+        BsonDocument shape = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!key.equals(commandName) && !IGNORED_FIELDS.contains(key)) {
+                shape.put(key, LITERAL_FIELDS.contains(key) ? value : normalize(value));
+            }
+        });
+        return shape;
+    }
+
+    private BsonValue normalize(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument normalized = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> normalized.put(key, normalize(nested)));
+            return normalized;
+        }
+        if (value.isArray() && value.asArray().stream().allMatch(BsonValue::isDocument)
+                && !value.asArray().isEmpty()) {
+            BsonArray normalized = new BsonArray();
+            value.asArray().forEach(nested -> normalized.add(normalize(nested)));
+            return normalized;
+        }
+        return new BsonString("?");
+    }
+
+    private record InFlight(String collection, BsonDocument command) {
+    }
+}
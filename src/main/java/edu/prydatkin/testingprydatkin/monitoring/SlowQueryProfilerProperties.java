@@ -0,0 +1,32 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQueryProfilerProperties
+    @version 1.0.0
+    @since 10/18/2026 - 10.20
+*/
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param threshold       commands at least this slow are recorded
+ * @param capacity        how many recent slow commands and distinct query shapes are kept
+ * @param explain         whether slow queries are explained with executionStats
+ * @param explainInterval minimum time between two explains of the same query shape
+ * @param sampleRate      share of the queries copied when they start, for their shape and explain
+ */
+@ConfigurationProperties("student.profiler")
+public record SlowQueryProfilerProperties(@DefaultValue("true") boolean enabled,
+                                          @DefaultValue("100ms") Duration threshold,
+                                          @DefaultValue("100") int capacity,
+                                          @DefaultValue("true") boolean explain,
+                                          @DefaultValue("5m") Duration explainInterval,
+                                          @DefaultValue("0.1") double sampleRate) {
+
+}
@@ -0,0 +1,17 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQueryReport
+    @version 1.0.0
+    @since 10/18/2026 - 10.25
+*/
+
+import java.util.List;
+
+// recent is newest first, worst is ordered by the slowest single execution
+public record SlowQueryReport(long thresholdMillis, List<SlowQuery> recent, List<SlowQueryShape> worst) {
+
+}
@@ -0,0 +1,17 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQueryShape
+    @version 1.0.0
+    @since 10/18/2026 - 10.25
+*/
+
+import java.time.Instant;
+
+public record SlowQueryShape(String shape, String command, String collection, long count, long maxMillis,
+                             long totalMillis, Instant lastSeen, SlowQueryExplain explain) {
+
+}
@@ -0,0 +1,60 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQueryShapeStats
+    @version 1.0.0
+    @since 10/18/2026 - 10.35
+*/
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// running totals for one query shape, updated from driver callback threads
+class SlowQueryShapeStats {
+    private final String shape;
+    private final String command;
+    private final String collection;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMillis = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+    private final AtomicReference<Instant> explainRequested = new AtomicReference<>();
+    private volatile Instant lastSeen;
+    private volatile SlowQueryExplain explain;
+
+    SlowQueryShapeStats(String shape, String command, String collection) {
+        this.shape = shape;
+        this.command = command;
+        this.collection = collection;
+    }
+
+    void record(SlowQuery slowQuery) {
+        count.incrementAndGet();
+        totalMillis.addAndGet(slowQuery.durationMillis());
+        maxMillis.accumulateAndGet(slowQuery.durationMillis(), Math::max);
+        lastSeen = slowQuery.at();
+    }
+
+    // true for exactly one caller per interval
+    boolean claimExplain(Duration interval) {
+        Instant now = Instant.now();
+        Instant previous = explainRequested.get();
+        if (previous != null && previous.plus(interval).isAfter(now)) {
+            return false;
+        }
+        return explainRequested.compareAndSet(previous, now);
+    }
+
+    void explained(SlowQueryExplain explain) {
+        this.explain = explain;
+    }
+
+    SlowQueryShape snapshot() {
+        return new SlowQueryShape(shape, command, collection, count.get(), maxMillis.get(), totalMillis.get(),
+                lastSeen, explain);
+    }
+}
@@ -0,0 +1,27 @@
+package edu.prydatkin.testingprydatkin.repository;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveStudentRepository
+    @version 1.0.0
+    @since 10/18/2026 - 12.20
+*/
+
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.ReadPreference;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+// only in reactive mode, the reactive Mongo client is not configured otherwise
+@Profile("reactive")
+@Repository
+public interface ReactiveStudentRepository extends ReactiveMongoRepository<Student, String> {
+    // decides whether a create goes through, so never answered by a lagging secondary
+    @ReadPreference("primary")
+    public Mono<Boolean> existsByGender(String gender);
+}
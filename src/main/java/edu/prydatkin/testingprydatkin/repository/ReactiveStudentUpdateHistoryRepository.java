@@ -0,0 +1,31 @@
+package edu.prydatkin.testingprydatkin.repository;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveStudentUpdateHistoryRepository
+    @version 1.0.0
+    @since 10/18/2026 - 12.20
+*/
+
+
+import edu.prydatkin.testingprydatkin.model.StudentUpdateHistory;
+import org.springframework.data.domain.Range;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+// only in reactive mode, the reactive Mongo client is not configured otherwise
+@Profile("reactive")
+@Repository
+public interface ReactiveStudentUpdateHistoryRepository extends ReactiveMongoRepository<StudentUpdateHistory, String> {
+    public Flux<StudentUpdateHistory> findByStudentIdAndBucketBetweenOrderByBucketAsc(String studentId,
+                                                                                      Range<LocalDate> buckets);
+
+    public Mono<Void> deleteByStudentId(String studentId);
+}
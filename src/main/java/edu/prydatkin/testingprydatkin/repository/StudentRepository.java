@@ -11,10 +11,20 @@ package edu.prydatkin.testingprydatkin.repository;
 
 
 import edu.prydatkin.testingprydatkin.model.Student;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.ReadPreference;
 import org.springframework.stereotype.Repository;
 
+import java.util.stream.Stream;
+
 @Repository
 public interface StudentRepository extends MongoRepository<Student, String> {
+    // decides whether a create goes through, so never answered by a lagging secondary
+    @ReadPreference("primary")
     public boolean existsByGender(String gender);
+
+    // backed by a server-side cursor, the caller has to close the stream
+    @Meta(cursorBatchSize = 500)
+    public Stream<Student> streamAllBy();
 }
@@ -0,0 +1,27 @@
+package edu.prydatkin.testingprydatkin.repository;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentUpdateHistoryRepository
+    @version 1.0.0
+    @since 10/17/2026 - 21.05
+*/
+
+
+import edu.prydatkin.testingprydatkin.model.StudentUpdateHistory;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface StudentUpdateHistoryRepository extends MongoRepository<StudentUpdateHistory, String> {
+    public List<StudentUpdateHistory> findByStudentIdAndBucketBetweenOrderByBucketAsc(String studentId,
+                                                                                      Range<LocalDate> buckets);
+
+    public void deleteByStudentId(String studentId);
+}
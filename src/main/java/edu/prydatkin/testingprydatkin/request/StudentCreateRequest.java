@@ -10,6 +10,9 @@ package edu.prydatkin.testingprydatkin.request;
 */
 
 
-public record StudentCreateRequest( String name, int age, String gender) {
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record StudentCreateRequest(@NotBlank String name, @PositiveOrZero int age, @NotBlank String gender) {
 
 }
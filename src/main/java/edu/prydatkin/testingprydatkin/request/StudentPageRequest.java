@@ -0,0 +1,15 @@
+package edu.prydatkin.testingprydatkin.request;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentPageRequest
+    @version 1.0.0
+    @since 10/17/2026 - 19.20
+*/
+
+
+public record StudentPageRequest(String cursor, Integer limit, String sort) {
+
+}
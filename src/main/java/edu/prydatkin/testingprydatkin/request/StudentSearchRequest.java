@@ -0,0 +1,18 @@
+package edu.prydatkin.testingprydatkin.request;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentSearchRequest
+    @version 1.0.0
+    @since 10/18/2026 - 21.00
+*/
+
+import java.time.LocalDate;
+
+// every filter is optional, createdFrom/createdTo are inclusive days; sort is "field" or "field,desc"
+public record StudentSearchRequest(String gender, Integer minAge, Integer maxAge, String namePrefix,
+                                   LocalDate createdFrom, LocalDate createdTo, String sort,
+                                   Integer page, Integer size, boolean withTotal) {
+}
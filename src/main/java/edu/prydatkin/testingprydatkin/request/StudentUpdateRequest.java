@@ -10,6 +10,10 @@ package edu.prydatkin.testingprydatkin.request;
 */
 
 
-public record StudentUpdateRequest( String id, String name, int age, String gender) {
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record StudentUpdateRequest(@NotBlank String id, @NotBlank String name, @PositiveOrZero int age,
+                                   @NotBlank String gender) {
 
 }
@@ -0,0 +1,19 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class BatchItemStatus
+    @version 1.0.0
+    @since 10/17/2026 - 20.05
+*/
+
+
+public enum BatchItemStatus {
+    CREATED,
+    // gender rule: only one student per gender
+    REJECTED,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,14 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentAgeBucket
+    @version 1.0.0
+    @since 10/18/2026 - 20.05
+*/
+
+// ages in [from, to); both are null for the bucket of ages outside the configured boundaries
+public record StudentAgeBucket(Integer from, Integer to, long count) {
+}
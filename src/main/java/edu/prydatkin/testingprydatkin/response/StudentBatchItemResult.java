@@ -0,0 +1,16 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentBatchItemResult
+    @version 1.0.0
+    @since 10/17/2026 - 20.05
+*/
+
+
+// index points into the submitted batch, id is only set for written items
+public record StudentBatchItemResult(int index, String id, BatchItemStatus status, String message) {
+
+}
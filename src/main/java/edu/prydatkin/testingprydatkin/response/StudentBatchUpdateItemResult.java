@@ -0,0 +1,17 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentBatchUpdateItemResult
+    @version 1.0.0
+    @since 10/17/2026 - 20.50
+*/
+
+
+// message is set for items that were not sent to the database or failed there
+public record StudentBatchUpdateItemResult(int index, String id, long matchedCount, long modifiedCount,
+                                           String message) {
+
+}
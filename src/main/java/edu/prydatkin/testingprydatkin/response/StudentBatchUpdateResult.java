@@ -0,0 +1,17 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentBatchUpdateResult
+    @version 1.0.0
+    @since 10/17/2026 - 20.50
+*/
+
+import java.util.List;
+
+public record StudentBatchUpdateResult(long matchedCount, long modifiedCount,
+                                       List<StudentBatchUpdateItemResult> items) {
+
+}
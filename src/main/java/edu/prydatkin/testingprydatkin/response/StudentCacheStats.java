@@ -0,0 +1,16 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentCacheStats
+    @version 1.0.0
+    @since 10/17/2026 - 22.10
+*/
+
+
+public record StudentCacheStats(boolean enabled, long size, long hitCount, long missCount, double hitRate,
+                                long evictionCount, long loadCount, double averageLoadPenaltyNanos) {
+
+}
@@ -0,0 +1,23 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentIndexBuild
+    @version 1.0.0
+    @since 10/20/2026 - 10.30
+*/
+
+import java.time.Instant;
+import java.util.List;
+
+// progress of the last ensure run: state is idle, running, done or failed; ensured out of declared indexes
+public record StudentIndexBuild(String state, List<String> ensured, int declared, Instant startedAt,
+                                Instant finishedAt, String error) {
+
+    public static final String IDLE = "idle";
+    public static final String RUNNING = "running";
+    public static final String DONE = "done";
+    public static final String FAILED = "failed";
+}
@@ -0,0 +1,18 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentIndexUsage
+    @version 1.0.0
+    @since 10/18/2026 - 11.20
+*/
+
+import java.time.Instant;
+
+// accesses and since stay null when the server does not report $indexStats
+public record StudentIndexUsage(String collection, String name, String key, boolean unique, Long accesses,
+                                Instant since) {
+
+}
@@ -0,0 +1,13 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentNameSuggestion
+    @version 1.0.0
+    @since 10/18/2026 - 22.00
+*/
+
+public record StudentNameSuggestion(String id, String name) {
+}
@@ -0,0 +1,17 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentPage
+    @version 1.0.0
+    @since 10/17/2026 - 19.20
+*/
+
+import java.util.List;
+
+// items are students or projected field maps, nextCursor is null on the last page
+public record StudentPage<T>(List<T> items, String nextCursor) {
+
+}
@@ -0,0 +1,18 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentSearchResult
+    @version 1.0.0
+    @since 10/18/2026 - 21.00
+*/
+
+import edu.prydatkin.testingprydatkin.model.Student;
+
+import java.util.List;
+
+// total is only counted when it was asked for, hasNext comes for free from one extra document
+public record StudentSearchResult(List<Student> items, int page, int size, boolean hasNext, Long total) {
+}
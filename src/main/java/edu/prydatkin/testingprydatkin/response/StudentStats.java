@@ -0,0 +1,20 @@
+package edu.prydatkin.testingprydatkin.response;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentStats
+    @version 1.0.0
+    @since 10/18/2026 - 20.05
+*/
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// min/max/average age stay null for an empty collection
+public record StudentStats(long total, Map<String, Long> genders, List<StudentAgeBucket> ageHistogram,
+                           Integer minAge, Integer maxAge, Double averageAge,
+                           Map<LocalDate, Long> createdPerDay) {
+}
@@ -0,0 +1,175 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveStudentBulkService
+    @version 1.0.0
+    @since 10/20/2026 - 11.40
+*/
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import edu.prydatkin.testingprydatkin.config.UpdateHistoryProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.model.StudentUpdateHistory;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.response.StudentBatchItemResult;
+import edu.prydatkin.testingprydatkin.response.StudentBatchUpdateItemResult;
+import edu.prydatkin.testingprydatkin.response.StudentBatchUpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking counterpart of {@link StudentBulkService} for the reactive serving mode.
+ * <p>
+ * Validation, the gender rule and the per-item results come from {@link StudentBulkService}; the distinct
+ * gender lookup, the unordered bulk writes and the history archive run on {@link ReactiveBulkOperations}.
+ * Chunks are written one after the other, like the blocking service does. Only created with the
+ * {@code reactive} profile.
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveStudentBulkService {
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final StudentBulkService studentBulkService;
+    private final StudentHistoryService studentHistoryService;
+    private final UpdateHistoryProperties historyProperties;
+
+    public Mono<List<StudentBatchItemResult>> createAll(List<StudentCreateRequest> requests) {
+        return createAll(requests, null, null);
+    }
+
+    // same contract as StudentBulkService.createAll(List, List, List), write-behind flushes through it
+    public Mono<List<StudentBatchItemResult>> createAll(List<StudentCreateRequest> requests, List<String> ids,
+                                                        List<LocalDateTime> createDates) {
+        return Mono.defer(() -> {
+            StudentBatchItemResult[] results = studentBulkService.validateCreates(requests);
+            return reactiveMongoTemplate.findDistinct(studentBulkService.takenGendersQuery(requests, results, ids),
+                            "gender", Student.class, String.class)
+                    .collect(Collectors.toCollection(HashSet::new))
+                    .flatMap(takenGenders -> {
+                        List<Integer> indexes = new ArrayList<>();
+                        List<Student> students = studentBulkService.acceptCreates(requests, ids, createDates,
+                                takenGenders, results, indexes);
+                        return Flux.range(0, chunks(students.size()))
+                                .concatMap(chunk -> {
+                                    int from = chunk * StudentBulkService.CHUNK_SIZE;
+                                    int to = Math.min(from + StudentBulkService.CHUNK_SIZE, students.size());
+                                    return insertChunk(students.subList(from, to), indexes.subList(from, to),
+                                            ids != null, results);
+                                })
+                                .then(Mono.fromSupplier(() -> Arrays.asList(results)));
+                    });
+        });
+    }
+
+    public Mono<StudentBatchUpdateResult> updateAll(List<StudentUpdateRequest> requests) {
+        return Mono.defer(() -> {
+            List<Integer> indexes = new ArrayList<>();
+            StudentBatchUpdateItemResult[] results = studentBulkService.validateUpdates(requests, indexes);
+            LocalDateTime now = LocalDateTime.now();
+            return Flux.range(0, chunks(indexes.size()))
+                    .concatMap(chunk -> {
+                        int from = chunk * StudentBulkService.CHUNK_SIZE;
+                        return updateChunk(requests,
+                                indexes.subList(from, Math.min(from + StudentBulkService.CHUNK_SIZE, indexes.size())),
+                                now, results);
+                    })
+                    .reduce(new long[2], (totals, result) -> {
+                        totals[0] += result.getMatchedCount();
+                        totals[1] += result.getModifiedCount();
+                        return totals;
+                    })
+                    .map(totals -> new StudentBatchUpdateResult(totals[0], totals[1], Arrays.asList(results)));
+        });
+    }
+
+    private Mono<Void> insertChunk(List<Student> chunk, List<Integer> indexes, boolean assignedIds,
+                                   StudentBatchItemResult[] results) {
+        return reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class)
+                .insert(chunk)
+                .execute()
+                .map(result -> List.<BulkWriteError>of())
+                .onErrorResume(e -> bulkWriteError(e) != null,
+                        e -> Mono.just(bulkWriteError(e).getWriteErrors()))
+                .doOnNext(errors -> studentBulkService.recordInserts(chunk, indexes, errors, assignedIds, results))
+                .then();
+    }
+
+    private Mono<BulkWriteResult> updateChunk(List<StudentUpdateRequest> requests, List<Integer> chunk,
+                                              LocalDateTime now, StudentBatchUpdateItemResult[] results) {
+        ReactiveBulkOperations operations = reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                Student.class);
+        for (int index : chunk) {
+            StudentUpdateRequest request = requests.get(index);
+            operations.updateOne(Query.query(Criteria.where("_id").is(request.id())),
+                    studentBulkService.update(request, now));
+        }
+        Set<Integer> failed = new HashSet<>();
+        return operations.execute()
+                .onErrorResume(e -> bulkWriteError(e) != null, e -> {
+                    MongoBulkWriteException bulk = bulkWriteError(e);
+                    failed.addAll(studentBulkService.recordUpdateErrors(requests, chunk, bulk.getWriteErrors(),
+                            results));
+                    return Mono.just(bulk.getWriteResult());
+                })
+                .flatMap(result -> {
+                    Mono<List<String>> updatedIds = studentBulkService.missedAny(result, chunk, failed)
+                            ? reactiveMongoTemplate.find(studentBulkService.existingQuery(requests, chunk),
+                                            Student.class)
+                                    .map(Student::getId)
+                                    .collect(Collectors.toSet())
+                                    .map(found -> studentBulkService.recordUpdates(requests, chunk, failed, found,
+                                            results))
+                            : Mono.fromSupplier(() -> studentBulkService.recordUpdates(requests, chunk, failed, null,
+                                    results));
+                    return updatedIds.flatMap(ids -> archiveAll(ids, now)).thenReturn(result);
+                });
+    }
+
+    private Mono<Void> archiveAll(List<String> studentIds, LocalDateTime at) {
+        if (!historyProperties.archive() || studentIds.isEmpty()) {
+            return Mono.empty();
+        }
+        ReactiveBulkOperations operations = reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                StudentUpdateHistory.class);
+        for (String studentId : studentIds) {
+            operations.upsert(studentHistoryService.bucketQuery(studentId, at.toLocalDate()),
+                    studentHistoryService.archiveUpdate(at));
+        }
+        return operations.execute().then();
+    }
+
+    // the driver error behind a partially applied bulk write, the template translates it into a DataAccessException
+    private static MongoBulkWriteException bulkWriteError(Throwable e) {
+        if (e instanceof MongoBulkWriteException bulk) {
+            return bulk;
+        }
+        return e.getCause() instanceof MongoBulkWriteException bulk ? bulk : null;
+    }
+
+    private static int chunks(int size) {
+        return (size + StudentBulkService.CHUNK_SIZE - 1) / StudentBulkService.CHUNK_SIZE;
+    }
+}
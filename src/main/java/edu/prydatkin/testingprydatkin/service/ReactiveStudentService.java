@@ -0,0 +1,233 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveStudentService
+    @version 1.0.0
+    @since 10/18/2026 - 12.30
+*/
+
+import edu.prydatkin.testingprydatkin.config.UpdateHistoryProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.model.StudentUpdateHistory;
+import edu.prydatkin.testingprydatkin.repository.ReactiveStudentRepository;
+import edu.prydatkin.testingprydatkin.repository.ReactiveStudentUpdateHistoryRepository;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.request.StudentSearchRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.response.StudentBatchItemResult;
+import edu.prydatkin.testingprydatkin.response.StudentBatchUpdateResult;
+import edu.prydatkin.testingprydatkin.response.StudentPage;
+import edu.prydatkin.testingprydatkin.response.StudentSearchResult;
+import edu.prydatkin.testingprydatkin.response.StudentStats;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link StudentService} for the reactive serving mode.
+ * <p>
+ * Same rules and the same queries as the blocking service (page queries, update documents and history
+ * buckets are built by {@link StudentPageService} and {@link StudentHistoryService}), executed through
+ * {@link ReactiveMongoTemplate} so no event-loop thread ever waits on Mongo; batches go through
+ * {@link ReactiveStudentBulkService}. Only created with the {@code reactive} profile, which is also the only
+ * one that configures the reactive Mongo client.
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveStudentService {
+    private final ReactiveStudentRepository reactiveStudentRepository;
+    private final ReactiveStudentUpdateHistoryRepository reactiveHistoryRepository;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final StudentPageService studentPageService;
+    private final StudentProjectionService studentProjectionService;
+    private final StudentStatsService studentStatsService;
+    private final StudentSearchService studentSearchService;
+    private final StudentHistoryService studentHistoryService;
+    private final ReactiveStudentBulkService reactiveStudentBulkService;
+    private final StudentCacheService studentCacheService;
+    private final StudentNameIndexService studentNameIndexService;
+    private final StudentETagService studentETagService;
+    private final UpdateHistoryProperties historyProperties;
+
+    // emitted as the cursor is read, demand from the subscriber controls how far ahead Mongo is fetched
+    public Flux<Student> getAll() {return reactiveStudentRepository.findAll();}
+
+    public Mono<StudentPage<Student>> getPage(StudentPageRequest request) {
+        return Mono.fromCallable(() -> studentPageService.pageQuery(request))
+                .flatMap(query -> reactiveMongoTemplate.find(query, Student.class).collectList())
+                .map(students -> studentPageService.toPage(students, request));
+    }
+
+    public Mono<StudentPage<Map<String, Object>>> getPage(StudentPageRequest request, String fields) {
+        return Mono.fromCallable(() -> studentProjectionService.parseFields(fields))
+                .flatMap(selected -> reactiveMongoTemplate.query(Student.class).as(Document.class)
+                        .matching(studentProjectionService.project(studentPageService.pageQuery(request), selected))
+                        .all()
+                        .collectList()
+                        .map(documents -> studentProjectionService.toPage(documents, request, selected)));
+    }
+
+    public Mono<StudentSearchResult> search(StudentSearchRequest request) {
+        return Mono.fromCallable(() -> studentSearchService.searchQuery(request))
+                .flatMap(query -> {
+                    Mono<List<Student>> students = reactiveMongoTemplate.find(query, Student.class).collectList();
+                    if (!request.withTotal()) {
+                        return students.map(found -> studentSearchService.toResult(found, request, null));
+                    }
+                    // the page and its total are fetched concurrently
+                    return Mono.zip(students, reactiveMongoTemplate.count(studentSearchService.countQuery(request),
+                                    Student.class),
+                            (found, total) -> studentSearchService.toResult(found, request, total));
+                });
+    }
+
+    public Mono<StudentStats> getStats(String ageBuckets, Integer days) {
+        return Mono.fromCallable(() -> studentStatsService.parseBoundaries(ageBuckets))
+                .flatMap(boundaries -> reactiveMongoTemplate.aggregate(
+                                studentStatsService.statsAggregation(boundaries, days), Student.class, Document.class)
+                        .next()
+                        .defaultIfEmpty(new Document())
+                        .map(result -> studentStatsService.toStats(result, boundaries)));
+    }
+
+    public Mono<Map<String, Object>> getById(String id, String fields) {
+        return Mono.fromCallable(() -> studentProjectionService.parseFields(fields))
+                .flatMap(selected -> reactiveMongoTemplate.query(Student.class).as(Document.class)
+                        .matching(studentProjectionService.project(Query.query(Criteria.where("_id").is(id)),
+                                selected))
+                        .one()
+                        .map(document -> studentProjectionService.toMap(document, selected)));
+    }
+
+    // loads through the cache like StudentService.getById; a cancelled caller does not cancel a shared load
+    public Mono<Student> getById(String id) {
+        return Mono.fromFuture(() -> studentCacheService.getAsync(id,
+                key -> reactiveStudentRepository.findById(key).toFuture()), true);
+    }
+
+    // like StudentService.create(Student), an existing id is refused and the version is set here
+    public Mono<Student> create(Student student) {
+        student.setVersion(0L);
+        return reactiveStudentRepository.insert(student)
+                .doOnNext(saved -> {
+                    studentCacheService.evict(saved.getId());
+                    studentNameIndexService.index(saved);
+                });
+    }
+
+    public Mono<Student> create(StudentCreateRequest request) {
+        return reactiveStudentRepository.existsByGender(request.gender())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.empty();
+                    }
+                    Student student = new Student(request.name(), request.age(), request.gender());
+                    student.setCreateDate(LocalDateTime.now());
+                    student.setUpdateDate(new ArrayList<>());
+                    return reactiveStudentRepository.save(student).doOnNext(studentNameIndexService::index);
+                });
+    }
+
+    public Mono<Student> update(Student student) {
+        return update(student, null);
+    }
+
+    // same conditional whole-document write as StudentService.update(Student, String)
+    public Mono<Student> update(Student student, String ifMatch) {
+        if (student.getId() == null && ifMatch == null) {
+            return create(student);
+        }
+        return Mono.defer(() -> reactiveMongoTemplate.findAndModify(
+                        studentETagService.ifMatchQuery(student.getId(), ifMatch),
+                        studentHistoryService.replaceUpdate(student, LocalDateTime.now()),
+                        FindAndModifyOptions.options().returnNew(true).upsert(ifMatch == null), Student.class))
+                .doOnNext(studentNameIndexService::index)
+                .doFinally(signal -> studentCacheService.evict(student.getId()))
+                .switchIfEmpty(preconditionFailed(student.getId(), ifMatch));
+    }
+
+    public Mono<Student> update(StudentUpdateRequest request) {
+        return update(request, null);
+    }
+
+    // same single findAndModify as StudentService.update(StudentUpdateRequest, String)
+    public Mono<Student> update(StudentUpdateRequest request, String ifMatch) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            Query query = studentETagService.ifMatchQuery(request.id(), ifMatch);
+            Update update = studentHistoryService.recordUpdate(new Update()
+                    .set("name", request.name())
+                    .set("age", request.age())
+                    .set("gender", request.gender()), now);
+            return reactiveMongoTemplate.findAndModify(query, update,
+                            FindAndModifyOptions.options().returnNew(true), Student.class)
+                    .doFinally(signal -> studentCacheService.evict(request.id()))
+                    .flatMap(updated -> {
+                        studentNameIndexService.index(updated);
+                        return archive(updated.getId(), now).thenReturn(updated);
+                    })
+                    .switchIfEmpty(preconditionFailed(request.id(), ifMatch));
+        });
+    }
+
+    public Mono<Void> deleteById(String id) {
+        return reactiveStudentRepository.deleteById(id)
+                .then(Mono.fromRunnable(() -> {
+                    studentCacheService.evict(id);
+                    studentNameIndexService.remove(id);
+                }))
+                .then(reactiveHistoryRepository.deleteByStudentId(id));
+    }
+
+    public Mono<List<LocalDateTime>> getHistory(String id, LocalDate from, LocalDate to) {
+        return Mono.zip(
+                reactiveHistoryRepository.findByStudentIdAndBucketBetweenOrderByBucketAsc(id,
+                        studentHistoryService.historyDays(from, to)).collectList(),
+                reactiveMongoTemplate.findOne(studentHistoryService.embeddedHistoryQuery(id), Student.class)
+                        .map(List::of)
+                        .defaultIfEmpty(List.of()),
+                (buckets, student) -> studentHistoryService.mergeHistory(buckets,
+                        student.isEmpty() ? null : student.get(0), from, to));
+    }
+
+    public Mono<List<StudentBatchItemResult>> createAll(List<StudentCreateRequest> requests) {
+        return reactiveStudentBulkService.createAll(requests);
+    }
+
+    public Mono<StudentBatchUpdateResult> updateAll(List<StudentUpdateRequest> requests) {
+        return reactiveStudentBulkService.updateAll(requests);
+    }
+
+    private Mono<Student> preconditionFailed(String id, String ifMatch) {
+        return ifMatch == null ? Mono.empty() : Mono.error(
+                new OptimisticLockingFailureException("Student " + id + " does not match If-Match " + ifMatch));
+    }
+
+    private Mono<Void> archive(String studentId, LocalDateTime at) {
+        if (!historyProperties.archive()) {
+            return Mono.empty();
+        }
+        return reactiveMongoTemplate.upsert(studentHistoryService.bucketQuery(studentId, at.toLocalDate()),
+                studentHistoryService.archiveUpdate(at), StudentUpdateHistory.class).then();
+    }
+}
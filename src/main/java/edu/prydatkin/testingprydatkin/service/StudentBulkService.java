@@ -0,0 +1,333 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentBulkService
+    @version 1.0.0
+    @since 10/17/2026 - 20.10
+*/
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.response.BatchItemStatus;
+import edu.prydatkin.testingprydatkin.response.StudentBatchItemResult;
+import edu.prydatkin.testingprydatkin.response.StudentBatchUpdateItemResult;
+import edu.prydatkin.testingprydatkin.response.StudentBatchUpdateResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Batch writes for bulk ingestion and mass corrections.
+ * <p>
+ * A create batch is validated up front, the gender rule is checked with a single distinct query,
+ * and the accepted students are written with unordered bulk inserts of {@link #CHUNK_SIZE}.
+ * An update batch becomes unordered {@code updateOne} operations without reading the documents first.
+ */
+@Service
+@Timed("student.service")
+@RequiredArgsConstructor
+public class StudentBulkService {
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int CHUNK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Validator validator;
+    private final StudentHistoryService studentHistoryService;
+    private final StudentCacheService studentCacheService;
+    private final StudentNameIndexService studentNameIndexService;
+
+    public List<StudentBatchItemResult> createAll(List<StudentCreateRequest> requests) {
+        return createAll(requests, null, null);
+    }
+
+    // ids and create dates that were already handed out to the clients, see StudentWriteBehindService. With ids
+    // a call can be repeated after a failure: students a partially applied earlier call already stored neither
+    // block their own gender nor fail as duplicates, they are reported CREATED again
+    public List<StudentBatchItemResult> createAll(List<StudentCreateRequest> requests, List<String> ids,
+                                                  List<LocalDateTime> createDates) {
+        StudentBatchItemResult[] results = validateCreates(requests);
+        Set<String> takenGenders = new HashSet<>(mongoTemplate.findDistinct(takenGendersQuery(requests, results, ids),
+                "gender", Student.class, String.class));
+        List<Integer> indexes = new ArrayList<>();
+        List<Student> students = acceptCreates(requests, ids, createDates, takenGenders, results, indexes);
+
+        for (int from = 0; from < students.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, students.size());
+            insertChunk(students.subList(from, to), indexes.subList(from, to), ids != null, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    public StudentBatchUpdateResult updateAll(List<StudentUpdateRequest> requests) {
+        List<Integer> indexes = new ArrayList<>();
+        StudentBatchUpdateItemResult[] results = validateUpdates(requests, indexes);
+
+        long matched = 0;
+        long modified = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < indexes.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = indexes.subList(from, Math.min(from + CHUNK_SIZE, indexes.size()));
+            BulkWriteResult result = updateChunk(requests, chunk, now, results);
+            matched += result.getMatchedCount();
+            modified += result.getModifiedCount();
+        }
+        return new StudentBatchUpdateResult(matched, modified, Arrays.asList(results));
+    }
+
+    private BulkWriteResult updateChunk(List<StudentUpdateRequest> requests, List<Integer> chunk, LocalDateTime now,
+                                        StudentBatchUpdateItemResult[] results) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class);
+        for (int index : chunk) {
+            StudentUpdateRequest request = requests.get(index);
+            operations.updateOne(Query.query(Criteria.where("_id").is(request.id())), update(request, now));
+        }
+
+        BulkWriteResult result;
+        Set<Integer> failed = Set.of();
+        try {
+            result = operations.execute();
+        } catch (BulkOperationException e) {
+            result = e.getResult();
+            failed = recordUpdateErrors(requests, chunk, e.getErrors(), results);
+        }
+
+        Set<String> found = null;
+        if (missedAny(result, chunk, failed)) {
+            found = mongoTemplate.find(existingQuery(requests, chunk), Student.class).stream()
+                    .map(Student::getId)
+                    .collect(Collectors.toSet());
+        }
+        studentHistoryService.archiveAll(recordUpdates(requests, chunk, failed, found, results), now);
+        return result;
+    }
+
+    private void insertChunk(List<Student> chunk, List<Integer> indexes, boolean assignedIds,
+                             StudentBatchItemResult[] results) {
+        List<BulkWriteError> errors = List.of();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class)
+                    .insert(chunk)
+                    .execute();
+        } catch (BulkOperationException e) {
+            errors = e.getErrors();
+        }
+        recordInserts(chunk, indexes, errors, assignedIds, results);
+    }
+
+    // the pieces below are shared with ReactiveStudentBulkService, which runs the same writes non-blocking
+
+    // an array with the INVALID items filled in, the valid ones are still null
+    public StudentBatchItemResult[] validateCreates(List<StudentCreateRequest> requests) {
+        checkBatchSize(requests);
+        StudentBatchItemResult[] results = new StudentBatchItemResult[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            String violations = validate(requests.get(i));
+            if (violations != null) {
+                results[i] = new StudentBatchItemResult(i, null, BatchItemStatus.INVALID, violations);
+            }
+        }
+        return results;
+    }
+
+    // same rule as StudentService.create(StudentCreateRequest), evaluated once for the whole batch (on the primary):
+    // a distinct "gender" over this query gives the genders the batch may not take
+    public Query takenGendersQuery(List<StudentCreateRequest> requests, StudentBatchItemResult[] results,
+                                   List<String> ids) {
+        Set<String> genders = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] == null) {
+                genders.add(requests.get(i).gender());
+            }
+        }
+        Query taken = Query.query(Criteria.where("gender").in(genders)).withReadPreference(ReadPreference.primary());
+        if (ids != null) {
+            taken.addCriteria(Criteria.where("_id").nin(ids));
+        }
+        return taken;
+    }
+
+    // the students to insert, indexes gets the batch index of each; items the gender rule refuses are REJECTED
+    public List<Student> acceptCreates(List<StudentCreateRequest> requests, List<String> ids,
+                                       List<LocalDateTime> createDates, Set<String> takenGenders,
+                                       StudentBatchItemResult[] results, List<Integer> indexes) {
+        List<Student> students = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            StudentCreateRequest request = requests.get(i);
+            if (!takenGenders.add(request.gender())) {
+                results[i] = new StudentBatchItemResult(i, null, BatchItemStatus.REJECTED,
+                        "Student with gender " + request.gender() + " already exists");
+                continue;
+            }
+            Student student = Student.builder()
+                    .id(ids == null ? new ObjectId().toHexString() : ids.get(i))
+                    .name(request.name())
+                    .age(request.age())
+                    .gender(request.gender())
+                    .createDate(createDates == null ? now : createDates.get(i))
+                    .updateDate(new ArrayList<>())
+                    .build();
+            indexes.add(i);
+            students.add(student);
+        }
+        return students;
+    }
+
+    // CREATED or FAILED for every student of an inserted chunk, the created ones go into the name index
+    public void recordInserts(List<Student> chunk, List<Integer> indexes, List<BulkWriteError> errors,
+                              boolean assignedIds, StudentBatchItemResult[] results) {
+        Set<Integer> failed = new HashSet<>();
+        for (BulkWriteError error : errors) {
+            if (assignedIds && isDuplicateId(error)) {
+                // stored by an earlier attempt with the same id
+                continue;
+            }
+            int index = indexes.get(error.getIndex());
+            failed.add(error.getIndex());
+            results[index] = new StudentBatchItemResult(index, null, BatchItemStatus.FAILED, error.getMessage());
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            if (!failed.contains(i)) {
+                int index = indexes.get(i);
+                results[index] = new StudentBatchItemResult(index, chunk.get(i).getId(), BatchItemStatus.CREATED, null);
+                studentNameIndexService.index(chunk.get(i));
+            }
+        }
+    }
+
+    // an array with the invalid and repeated items filled in, indexes gets the batch index of the others
+    public StudentBatchUpdateItemResult[] validateUpdates(List<StudentUpdateRequest> requests,
+                                                          List<Integer> indexes) {
+        checkBatchSize(requests);
+        StudentBatchUpdateItemResult[] results = new StudentBatchUpdateItemResult[requests.size()];
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String violations = validate(requests.get(i));
+            if (violations == null && !ids.add(requests.get(i).id())) {
+                // unordered writes to the same document would race each other
+                violations = "duplicate id in batch";
+            }
+            if (violations != null) {
+                String id = requests.get(i) == null ? null : requests.get(i).id();
+                results[i] = new StudentBatchUpdateItemResult(i, id, 0, 0, violations);
+            } else {
+                indexes.add(i);
+            }
+        }
+        return results;
+    }
+
+    // the updateOne of a batch item, applied without reading the document first
+    public Update update(StudentUpdateRequest request, LocalDateTime now) {
+        return studentHistoryService.recordUpdate(new Update()
+                .set("name", request.name())
+                .set("age", request.age())
+                .set("gender", request.gender()), now);
+    }
+
+    // results of the operations that failed, returns their batch indexes
+    public Set<Integer> recordUpdateErrors(List<StudentUpdateRequest> requests, List<Integer> chunk,
+                                           List<BulkWriteError> errors, StudentBatchUpdateItemResult[] results) {
+        Set<Integer> failed = new HashSet<>();
+        for (BulkWriteError error : errors) {
+            int index = chunk.get(error.getIndex());
+            failed.add(index);
+            results[index] = new StudentBatchUpdateItemResult(index, requests.get(index).id(), 0, 0,
+                    error.getMessage());
+        }
+        return failed;
+    }
+
+    // the bulk result only has totals; when some operation missed, one _id lookup tells which.
+    // every matched document is also modified because updateDate always grows
+    public boolean missedAny(BulkWriteResult result, List<Integer> chunk, Set<Integer> failed) {
+        return result.getMatchedCount() < chunk.size() - failed.size();
+    }
+
+    // on the primary, so it sees the writes that were just made
+    public Query existingQuery(List<StudentUpdateRequest> requests, List<Integer> chunk) {
+        List<String> chunkIds = chunk.stream().map(index -> requests.get(index).id()).toList();
+        Query existing = Query.query(Criteria.where("_id").in(chunkIds)).withReadPreference(ReadPreference.primary());
+        existing.fields().include("_id");
+        return existing;
+    }
+
+    // results of the other operations of a chunk, found is null when every one matched; evicts the chunk and
+    // returns the ids of the updated students, whose history is archived next
+    public List<String> recordUpdates(List<StudentUpdateRequest> requests, List<Integer> chunk, Set<Integer> failed,
+                                      Set<String> found, StudentBatchUpdateItemResult[] results) {
+        List<String> updatedIds = new ArrayList<>();
+        for (int index : chunk) {
+            if (failed.contains(index)) {
+                continue;
+            }
+            String id = requests.get(index).id();
+            long count = found == null || found.contains(id) ? 1 : 0;
+            results[index] = new StudentBatchUpdateItemResult(index, id, count, count,
+                    count == 0 ? "Student not found" : null);
+            if (count > 0) {
+                updatedIds.add(id);
+                studentNameIndexService.index(id, requests.get(index).name());
+            }
+        }
+        studentCacheService.evictAll(chunk.stream().map(index -> requests.get(index).id()).toList());
+        return updatedIds;
+    }
+
+    private static boolean isDuplicateId(BulkWriteError error) {
+        return ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY
+                && error.getMessage() != null && error.getMessage().contains("_id_");
+    }
+
+    // the message of an INVALID item, null when the request is valid; write-behind accepts creates by it too
+    public String validate(Object request) {
+        if (request == null) {
+            return "must not be null";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void checkBatchSize(List<?> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must not be empty");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE + " items");
+        }
+    }
+}
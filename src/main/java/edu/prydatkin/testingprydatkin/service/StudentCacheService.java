@@ -0,0 +1,121 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentCacheService
+    @version 1.0.0
+    @since 10/17/2026 - 22.15
+*/
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.prydatkin.testingprydatkin.config.MongoReadRoutingProperties;
+import edu.prydatkin.testingprydatkin.config.StudentCacheProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.response.StudentCacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Node-local read-through cache of students by id.
+ * <p>
+ * Bounded by {@code student.cache.maximum-size} (W-TinyLFU eviction) and {@code student.cache.ttl}, which with
+ * read routing is capped at {@code student.mongo.read-routing.max-staleness}.
+ * Every write path evicts its entries after the database write instead of putting the written document,
+ * as two concurrent writes could put their results in the wrong order. Caffeine makes an eviction wait for
+ * an in-flight load of the same key, so a load racing a write cannot leave a stale entry behind either.
+ * <p>
+ * Blocking and reactive reads share one entry per key: both load through the cache, so a reactive load
+ * dropped by an eviction is never put back afterwards.
+ */
+@Slf4j
+@Service
+public class StudentCacheService implements MeterBinder {
+    private final boolean enabled;
+    private final AsyncCache<String, Student> cache;
+
+    public StudentCacheService(StudentCacheProperties properties) {
+        this(properties, new MongoReadRoutingProperties(false, Duration.ZERO));
+    }
+
+    @Autowired
+    public StudentCacheService(StudentCacheProperties properties, MongoReadRoutingProperties routing) {
+        this.enabled = properties.enabled();
+        Duration ttl = properties.ttl();
+        // with read routing a miss may load from a secondary up to max-staleness behind, and the entry must not
+        // keep that copy around for longer than the lag it may already have
+        if (routing.enabled() && routing.maxStaleness().compareTo(ttl) < 0) {
+            log.info("student.cache.ttl {} lowered to student.mongo.read-routing.max-staleness {}", ttl,
+                    routing.maxStaleness());
+            ttl = routing.maxStaleness();
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // a null from the loader is returned but not cached
+    public Student get(String id, Function<String, Student> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return cache.synchronous().get(id, loader);
+    }
+
+    // for non-blocking callers; concurrent misses share one load, a future completed with null is not cached
+    public CompletableFuture<Student> getAsync(String id, Function<String, CompletableFuture<Student>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return cache.get(id, (key, executor) -> loader.apply(key));
+    }
+
+    // never waits for a load in flight
+    public Student getIfPresent(String id) {
+        CompletableFuture<Student> future = enabled ? cache.getIfPresent(id) : null;
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    public void evict(String id) {
+        if (id != null) {
+            cache.synchronous().invalidate(id);
+        }
+    }
+
+    public void evictAll(Collection<String> ids) {
+        cache.synchronous().invalidateAll(ids);
+    }
+
+    public void clear() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public StudentCacheStats stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return new StudentCacheStats(enabled, cache.synchronous().estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount(), stats.loadCount(), stats.averageLoadPenalty());
+    }
+
+    // picked up by Spring Boot as a MeterBinder, publishes cache_gets/cache_evictions/cache_size for "student"
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "student");
+    }
+}
@@ -0,0 +1,312 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentChangeStreamService
+    @version 1.0.0
+    @since 10/19/2026 - 17.15
+*/
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import com.mongodb.connection.ClusterType;
+import edu.prydatkin.testingprydatkin.config.StudentChangeStreamProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the node-local caches ({@link StudentCacheService}, {@link StudentNameIndexService}) coherent with
+ * writes made by other nodes, enabled with {@code student.change-stream.enabled}.
+ * <p>
+ * One background thread follows a change stream on the student collection and evicts the cached student and
+ * re-indexes its name on every insert, update, replace and delete. The resume token is kept in memory for
+ * reconnects and saved to {@value #TOKEN_COLLECTION} every {@code token-save-interval}, so a restarted node
+ * picks up where it stopped. When the token is no longer in the oplog both caches are rebuilt instead.
+ * <p>
+ * Change streams need a replica set; against a server without them the listener logs once and stays off,
+ * and cached students only expire after {@code student.cache.ttl}.
+ */
+@Slf4j
+@Service
+public class StudentChangeStreamService implements SmartLifecycle {
+    public static final String TOKEN_COLLECTION = "student_change_stream";
+
+    // InvalidResumeToken, ChangeStreamFatalError, ChangeStreamHistoryLost
+    private static final Set<Integer> HISTORY_LOST = Set.of(260, 280, 286);
+    private static final long MIN_BACKOFF_MILLIS = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoClient mongoClient;
+    private final StudentCacheService studentCacheService;
+    private final StudentNameIndexService studentNameIndexService;
+    private final StudentChangeStreamProperties properties;
+    private final MeterRegistry registry;
+    private final String consumerId;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread worker;
+
+    // owned by the worker thread
+    private BsonDocument resumeToken;
+    private long tokenSavedAt;
+
+    public StudentChangeStreamService(MongoTemplate mongoTemplate, MongoClient mongoClient,
+                                      StudentCacheService studentCacheService,
+                                      StudentNameIndexService studentNameIndexService,
+                                      StudentChangeStreamProperties properties, MeterRegistry registry) {
+        this.mongoTemplate = mongoTemplate;
+        this.mongoClient = mongoClient;
+        this.studentCacheService = studentCacheService;
+        this.studentNameIndexService = studentNameIndexService;
+        this.properties = properties;
+        this.registry = registry;
+        this.consumerId = properties.consumerId().isBlank() ? hostName() : properties.consumerId();
+        Gauge.builder("student.change-stream.connected", this, service -> service.connected ? 1 : 0)
+                .description("1 while the student change stream is open on this node")
+                .register(registry);
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, "student-change-stream");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // the stream is polled with a 1s await, so the worker notices within about a second
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.enabled();
+    }
+
+    /**
+     * Applies one change event to the local caches. Events for this node's own writes come back as well,
+     * they only cost a cache miss.
+     */
+    public void apply(ChangeStreamDocument<Document> event) {
+        OperationType operation = event.getOperationType();
+        String id = event.getDocumentKey() == null ? null : idOf(event.getDocumentKey().get("_id"));
+        switch (operation) {
+            case INSERT, REPLACE -> {
+                studentCacheService.evict(id);
+                if (event.getFullDocument() != null) {
+                    studentNameIndexService.index(id, event.getFullDocument().getString("name"));
+                }
+            }
+            case UPDATE -> {
+                studentCacheService.evict(id);
+                UpdateDescription update = event.getUpdateDescription();
+                if (update != null && update.getUpdatedFields() != null
+                        && update.getUpdatedFields().isString("name")) {
+                    studentNameIndexService.index(id, update.getUpdatedFields().getString("name").getValue());
+                } else if (update != null && update.getRemovedFields() != null
+                        && update.getRemovedFields().contains("name")) {
+                    studentNameIndexService.remove(id);
+                }
+            }
+            case DELETE -> {
+                studentCacheService.evict(id);
+                studentNameIndexService.remove(id);
+            }
+            // the whole collection is gone or the stream ended
+            case DROP, DROP_DATABASE, RENAME, INVALIDATE -> resync();
+            default -> {
+                // e.g. createIndexes or modify, nothing the caches hold
+            }
+        }
+        registry.counter("student.change-stream.events", "operation", operation.getValue()).increment();
+    }
+
+    private void listen() {
+        boolean tokenLoaded = false;
+        long backoff = MIN_BACKOFF_MILLIS;
+        while (running) {
+            try {
+                if (!tokenLoaded) {
+                    resumeToken = loadToken();
+                    tokenLoaded = true;
+                    if (!changeStreamsSupported()) {
+                        log.warn("Change streams need a replica set or mongos, writes of other nodes reach the "
+                                + "local caches only through student.cache.ttl");
+                        running = false;
+                        return;
+                    }
+                }
+                follow();
+                backoff = MIN_BACKOFF_MILLIS;
+            } catch (MongoCommandException e) {
+                if (HISTORY_LOST.contains(e.getErrorCode())) {
+                    // events were missed and cannot be replayed
+                    log.warn("Student change stream cannot resume ({}), rebuilding local caches", e.getErrorMessage());
+                    resumeToken = null;
+                    resync();
+                    continue;
+                }
+                backoff = pause(e, backoff);
+            } catch (MongoException e) {
+                backoff = pause(e, backoff);
+            } finally {
+                connected = false;
+            }
+        }
+        saveToken();
+    }
+
+    // returns when stopped or on an invalidate event, throws on errors the driver could not resume from itself
+    private void follow() {
+        // pinned to the primary, the client-wide read preference may send reads to a secondary
+        MongoCollection<Document> students = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Student.class))
+                .withReadPreference(ReadPreference.primary());
+        ChangeStreamIterable<Document> stream = students.watch(List.of(Aggregates.project(Projections.include("operationType", "documentKey",
+                        "fullDocument.name", "updateDescription.updatedFields.name",
+                        "updateDescription.removedFields"))))
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            stream.resumeAfter(resumeToken);
+        }
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            connected = true;
+            while (running) {
+                ChangeStreamDocument<Document> event = cursor.tryNext();
+                if (event != null) {
+                    apply(event);
+                    if (event.getOperationType() == OperationType.INVALIDATE) {
+                        // the stream is closed for good, a new one starts from now
+                        resumeToken = null;
+                        return;
+                    }
+                }
+                // advances on idle polls too, so a resume does not rescan the oplog since the last event
+                remember(cursor.getResumeToken());
+            }
+        }
+    }
+
+    private void remember(BsonDocument token) {
+        if (token == null) {
+            return;
+        }
+        resumeToken = token;
+        if (System.currentTimeMillis() - tokenSavedAt >= properties.tokenSaveInterval().toMillis()) {
+            saveToken();
+        }
+    }
+
+    // a standalone server has no oplog to follow; the topology is known once a command went through
+    private boolean changeStreamsSupported() {
+        ClusterType type = mongoClient.getClusterDescription().getType();
+        return type == ClusterType.REPLICA_SET || type == ClusterType.SHARDED || type == ClusterType.LOAD_BALANCED;
+    }
+
+    private BsonDocument loadToken() {
+        BsonDocument saved = tokens().find(Filters.eq("_id", consumerId)).first();
+        return saved == null ? null : saved.getDocument("token", null);
+    }
+
+    private void saveToken() {
+        if (resumeToken == null) {
+            return;
+        }
+        try {
+            tokens().updateOne(Filters.eq("_id", consumerId),
+                    Updates.combine(Updates.set("token", resumeToken), Updates.set("savedAt", new Date())),
+                    new UpdateOptions().upsert(true));
+            tokenSavedAt = System.currentTimeMillis();
+        } catch (MongoException e) {
+            log.debug("Could not save the student change stream token", e);
+        }
+    }
+
+    private MongoCollection<BsonDocument> tokens() {
+        return mongoTemplate.getCollection(TOKEN_COLLECTION).withDocumentClass(BsonDocument.class)
+                .withReadPreference(ReadPreference.primary());
+    }
+
+    private void resync() {
+        studentCacheService.clear();
+        // swaps in a complete index, suggestions are not cut short while it loads
+        studentNameIndexService.rebuild();
+        registry.counter("student.change-stream.resyncs").increment();
+    }
+
+    private long pause(MongoException e, long backoff) {
+        log.warn("Student change stream interrupted, reconnecting in {} ms: {}", backoff, e.getMessage());
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        return Math.min(backoff * 2, properties.maxBackoff().toMillis());
+    }
+
+    // hex string ids are stored as ObjectId
+    private static String idOf(BsonValue id) {
+        if (id == null) {
+            return null;
+        }
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+}
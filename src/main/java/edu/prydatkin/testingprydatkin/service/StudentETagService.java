@@ -0,0 +1,117 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentETagService
+    @version 1.0.0
+    @since 10/18/2026 - 18.10
+*/
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.response.StudentPage;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.ETag;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strong ETags for students and student pages, and {@code If-Match} preconditions for writes.
+ * <p>
+ * A student's tag is its {@code version}, which every write increments. The {@code ...Of} lookups read only
+ * the version (or the cached student), so a matching {@code If-None-Match} is answered without loading the
+ * document, and an {@code If-Match} turns into a version condition on the update itself instead of a read.
+ */
+@Service
+@Timed("student.service")
+@RequiredArgsConstructor
+public class StudentETagService {
+    private final MongoTemplate mongoTemplate;
+    private final StudentPageService studentPageService;
+    private final StudentCacheService studentCacheService;
+
+    public String etag(Student student) {
+        return "\"" + versionOf(student) + "\"";
+    }
+
+    public String etagOf(String id) {
+        Student cached = studentCacheService.getIfPresent(id);
+        if (cached != null) {
+            return etag(cached);
+        }
+        Student version = mongoTemplate.findOne(versionOnly(Query.query(Criteria.where("_id").is(id))),
+                Student.class);
+        return version == null ? null : etag(version);
+    }
+
+    // the ids and versions of every item plus the cursor, so inserts, deletes and edits on the page all change it
+    public String pageETag(StudentPage<Student> page) {
+        StringBuilder content = new StringBuilder();
+        for (Student student : page.items()) {
+            content.append(student.getId()).append('|').append(versionOf(student)).append(';');
+        }
+        content.append(page.nextCursor());
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public String pageETagOf(StudentPageRequest request) {
+        List<Student> versions = mongoTemplate.find(versionOnly(studentPageService.pageQuery(request)),
+                Student.class);
+        return pageETag(studentPageService.toPage(versions, request));
+    }
+
+    /**
+     * The write target for a student under an {@code If-Match} header: the {@code _id}, plus one of the listed
+     * versions unless the header is {@code *}. Weak tags never match, as If-Match uses strong comparison.
+     */
+    public Query ifMatchQuery(String id, String ifMatch) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return query;
+        }
+        List<Long> versions = new ArrayList<>();
+        for (ETag etag : ETag.parse(ifMatch)) {
+            if (etag.isWildcard()) {
+                return query;
+            }
+            Long version = etag.weak() ? null : parseVersion(etag.tag());
+            if (version != null) {
+                versions.add(version);
+            }
+        }
+        if (versions.contains(0L)) {
+            // documents written before versioning have no version field yet
+            versions.add(null);
+        }
+        return query.addCriteria(Criteria.where("version").in(versions));
+    }
+
+    // createDate is part of the page cursor as well; like the bodies they tag, these reads may come from a
+    // secondary within max-staleness when read routing is on
+    private Query versionOnly(Query query) {
+        query.fields().include("createDate").include("version");
+        return query;
+    }
+
+    private long versionOf(Student student) {
+        return student.getVersion() == null ? 0 : student.getVersion();
+    }
+
+    private Long parseVersion(String tag) {
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentHistoryService
+    @version 1.0.0
+    @since 10/17/2026 - 21.15
+*/
+
+import com.mongodb.ReadPreference;
+import edu.prydatkin.testingprydatkin.config.UpdateHistoryProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.model.StudentUpdateHistory;
+import edu.prydatkin.testingprydatkin.repository.StudentUpdateHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code Student.updateDate} bounded.
+ * <p>
+ * With a positive {@code student.update-history.embedded-limit} only the latest timestamps stay in the
+ * student document ({@code $push} with {@code $slice}); the full history goes to day buckets in
+ * {@code student_update_history}. {@link #migrateOversized(int)} moves students stored before the limit was
+ * set over to this layout while the application keeps serving; run it once after enabling the limit, until
+ * then their oldest embedded timestamps are not archived yet.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentHistoryService {
+    private static final List<JsonSchemaObject.Type> ID_TYPES =
+            List.of(JsonSchemaObject.Type.STRING, JsonSchemaObject.Type.OBJECT_ID);
+
+    private final MongoTemplate mongoTemplate;
+    private final StudentUpdateHistoryRepository historyRepository;
+    private final UpdateHistoryProperties properties;
+    private final StudentCacheService studentCacheService;
+
+    // $set/$push updates bypass auditing, so lastModifiedDate and version are bumped here with the new timestamp
+    public Update recordUpdate(Update update, LocalDateTime at) {
+        update.set("lastModifiedDate", at).inc("version", 1);
+        if (properties.bounded()) {
+            return update.push("updateDate").slice(-properties.embeddedLimit()).each(at);
+        }
+        return update.push("updateDate", at);
+    }
+
+    // a whole-document write as an update, so the version is incremented in the same round trip;
+    // the client-sent updateDate list is kept within the embedded limit like a $push would
+    public Update replaceUpdate(Student student, LocalDateTime at) {
+        List<LocalDateTime> updateDate = student.getUpdateDate();
+        if (properties.bounded() && updateDate != null && updateDate.size() > properties.embeddedLimit()) {
+            updateDate = updateDate.subList(updateDate.size() - properties.embeddedLimit(), updateDate.size());
+        }
+        return new Update()
+                .set("name", student.getName())
+                .set("age", student.getAge())
+                .set("gender", student.getGender())
+                .set("createDate", student.getCreateDate())
+                .set("updateDate", updateDate)
+                .set("lastModifiedDate", at)
+                .inc("version", 1);
+    }
+
+    public void archive(String studentId, LocalDateTime at) {
+        if (properties.archive()) {
+            mongoTemplate.upsert(bucketQuery(studentId, at.toLocalDate()), archiveUpdate(at), StudentUpdateHistory.class);
+        }
+    }
+
+    public void archiveAll(Collection<String> studentIds, LocalDateTime at) {
+        if (!properties.archive() || studentIds.isEmpty()) {
+            return;
+        }
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                StudentUpdateHistory.class);
+        for (String studentId : studentIds) {
+            operations.upsert(bucketQuery(studentId, at.toLocalDate()), archiveUpdate(at));
+        }
+        operations.execute();
+    }
+
+    // archived buckets merged with what is still embedded, so not yet migrated students are complete too
+    public List<LocalDateTime> getHistory(String studentId, LocalDate from, LocalDate to) {
+        List<StudentUpdateHistory> buckets = historyRepository.findByStudentIdAndBucketBetweenOrderByBucketAsc(
+                studentId, historyDays(from, to));
+        return mergeHistory(buckets, mongoTemplate.findOne(embeddedHistoryQuery(studentId), Student.class), from, to);
+    }
+
+    // the pieces below are shared with ReactiveStudentService, which runs the same queries non-blocking
+    public Update archiveUpdate(LocalDateTime at) {
+        return new Update().addToSet("updates", at);
+    }
+
+    public Query bucketQuery(String studentId, LocalDate day) {
+        return Query.query(Criteria.where("studentId").is(studentId).and("bucket").is(day));
+    }
+
+    public Range<LocalDate> historyDays(LocalDate from, LocalDate to) {
+        return Range.from(from == null ? Range.Bound.<LocalDate>unbounded() : Range.Bound.inclusive(from))
+                .to(to == null ? Range.Bound.unbounded() : Range.Bound.inclusive(to));
+    }
+
+    public Query embeddedHistoryQuery(String studentId) {
+        Query query = Query.query(Criteria.where("_id").is(studentId));
+        query.fields().include("updateDate");
+        return query;
+    }
+
+    public List<LocalDateTime> mergeHistory(List<StudentUpdateHistory> buckets, Student student,
+                                            LocalDate from, LocalDate to) {
+        TreeSet<LocalDateTime> history = new TreeSet<>();
+        buckets.forEach(bucket -> history.addAll(bucket.getUpdates()));
+        if (student != null && student.getUpdateDate() != null) {
+            student.getUpdateDate().stream()
+                    .filter(at -> (from == null || !at.toLocalDate().isBefore(from))
+                            && (to == null || !at.toLocalDate().isAfter(to)))
+                    .forEach(history::add);
+        }
+        return List.copyOf(history);
+    }
+
+    public void deleteHistory(String studentId) {
+        historyRepository.deleteByStudentId(studentId);
+    }
+
+    /**
+     * Moves stored students over to the bounded layout, {@code batchSize} at a time: every embedded timestamp is
+     * archived, then lists longer than the limit are trimmed. Lists within the limit are archived as well, the
+     * next {@code $push} with {@code $slice} drops their oldest timestamps without archiving them. Students are
+     * walked in {@code _id} order from where the previous batch stopped, so one run reads the collection once;
+     * buckets are written with {@code $addToSet}, so re-running after a failure is safe.
+     *
+     * @return number of trimmed student documents
+     */
+    public long migrateOversized(int batchSize) {
+        if (!properties.bounded()) {
+            return 0;
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        String oversized = "updateDate." + properties.embeddedLimit();
+        // without archiving there is nothing to keep, only the oversized lists are visited
+        String visited = properties.archive() ? "updateDate.0" : oversized;
+        long migrated = 0;
+        // $gt only compares ids of the same BSON type, and ids are ObjectIds or, when not hex, plain strings
+        for (JsonSchemaObject.Type idType : ID_TYPES) {
+            String lastId = null;
+            while (true) {
+                Criteria byId = Criteria.where("_id").type(idType);
+                if (lastId != null) {
+                    byId.gt(lastId);
+                }
+                // on the primary, a secondary could still return students that were just trimmed
+                Query batch = Query.query(byId.and(visited).exists(true))
+                        .with(Sort.by("_id"))
+                        .limit(batchSize)
+                        .withReadPreference(ReadPreference.primary());
+                batch.fields().include("updateDate");
+                List<Student> students = mongoTemplate.find(batch, Student.class);
+                if (students.isEmpty()) {
+                    break;
+                }
+                lastId = students.get(students.size() - 1).getId();
+
+                if (properties.archive()) {
+                    BulkOperations buckets = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                            StudentUpdateHistory.class);
+                    for (Student student : students) {
+                        Map<LocalDate, List<LocalDateTime>> byDay = student.getUpdateDate().stream()
+                                .collect(Collectors.groupingBy(LocalDateTime::toLocalDate));
+                        byDay.forEach((day, updates) -> buckets.upsert(bucketQuery(student.getId(), day),
+                                new Update().addToSet("updates").each(updates.toArray())));
+                    }
+                    buckets.execute();
+                }
+
+                List<String> trimmedIds = students.stream()
+                        .filter(student -> student.getUpdateDate().size() > properties.embeddedLimit())
+                        .map(Student::getId)
+                        .toList();
+                if (!trimmedIds.isEmpty()) {
+                    BulkOperations trims = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class);
+                    LocalDateTime now = LocalDateTime.now();
+                    for (String id : trimmedIds) {
+                        // an empty $each with $slice only drops the oldest entries, concurrent pushes are kept;
+                        // the document changes, so lastModifiedDate and version (and with it the ETag) move as
+                        // well, only while still oversized, a student trimmed concurrently is not bumped again
+                        trims.updateOne(Query.query(Criteria.where("_id").is(id).and(oversized).exists(true)),
+                                new Update().push("updateDate").slice(-properties.embeddedLimit()).each()
+                                        .set("lastModifiedDate", now).inc("version", 1));
+                    }
+                    migrated += trims.execute().getModifiedCount();
+                    studentCacheService.evictAll(trimmedIds);
+                }
+                if (students.size() < batchSize) {
+                    break;
+                }
+            }
+        }
+        return migrated;
+    }
+}
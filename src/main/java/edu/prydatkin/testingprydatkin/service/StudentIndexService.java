@@ -0,0 +1,148 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentIndexService
+    @version 1.0.0
+    @since 10/18/2026 - 11.25
+*/
+
+import com.mongodb.ReadPreference;
+import edu.prydatkin.testingprydatkin.config.StudentIndexProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.model.StudentUpdateHistory;
+import edu.prydatkin.testingprydatkin.response.StudentIndexBuild;
+import edu.prydatkin.testingprydatkin.response.StudentIndexUsage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the indexes declared on the mapped documents and reports how often each one is used.
+ * <p>
+ * Index creation is idempotent, an existing index with the same definition is left alone. It runs on demand
+ * through the admin endpoint or, with {@link StudentIndexProperties#ensureOnStartup()}, on a background thread
+ * once the application is ready, so readiness does not wait for index builds on a large collection;
+ * {@link #getBuild()} reports how far the last run got.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentIndexService {
+    private static final List<Class<?>> INDEXED_TYPES = List.of(Student.class, StudentUpdateHistory.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final StudentIndexProperties properties;
+
+    private volatile StudentIndexBuild build =
+            new StudentIndexBuild(StudentIndexBuild.IDLE, List.of(), 0, null, null, null);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureOnStartup() {
+        if (!properties.ensureOnStartup()) {
+            return;
+        }
+        Thread builder = new Thread(() -> {
+            try {
+                log.info("Ensured indexes {}", ensureIndexes());
+            } catch (DataAccessException e) {
+                // e.g. duplicates blocking a unique index, the application still serves without it
+                log.warn("Could not ensure indexes on startup", e);
+            }
+        }, "student-index-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Builds the declared indexes one after the other, {@link #getBuild()} lists those done so far.
+     *
+     * @return names of the declared indexes, whether they were just built or already existed
+     */
+    public synchronized List<String> ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        Map<Class<?>, List<IndexDefinition>> definitions = new LinkedHashMap<>();
+        for (Class<?> type : INDEXED_TYPES) {
+            List<IndexDefinition> declared = new ArrayList<>();
+            resolver.resolveIndexFor(type).forEach(declared::add);
+            definitions.put(type, declared);
+        }
+        int declared = definitions.values().stream().mapToInt(List::size).sum();
+        Instant startedAt = Instant.now();
+        List<String> names = new ArrayList<>();
+        build = new StudentIndexBuild(StudentIndexBuild.RUNNING, List.of(), declared, startedAt, null, null);
+        try {
+            for (Map.Entry<Class<?>, List<IndexDefinition>> entry : definitions.entrySet()) {
+                IndexOperations indexOps = mongoTemplate.indexOps(entry.getKey());
+                for (IndexDefinition definition : entry.getValue()) {
+                    names.add(mongoTemplate.getCollectionName(entry.getKey()) + "." + indexOps.ensureIndex(definition));
+                    build = new StudentIndexBuild(StudentIndexBuild.RUNNING, List.copyOf(names), declared, startedAt,
+                            null, null);
+                }
+            }
+        } catch (RuntimeException e) {
+            build = new StudentIndexBuild(StudentIndexBuild.FAILED, List.copyOf(names), declared, startedAt,
+                    Instant.now(), e.getMessage());
+            throw e;
+        }
+        build = new StudentIndexBuild(StudentIndexBuild.DONE, List.copyOf(names), declared, startedAt,
+                Instant.now(), null);
+        return names;
+    }
+
+    public StudentIndexBuild getBuild() {
+        return build;
+    }
+
+    public List<StudentIndexUsage> getIndexUsage() {
+        List<StudentIndexUsage> usage = new ArrayList<>();
+        for (Class<?> type : INDEXED_TYPES) {
+            String collection = mongoTemplate.getCollectionName(type);
+            Map<String, Document> stats = indexStats(collection);
+            mongoTemplate.indexOps(type).getIndexInfo().forEach(index -> {
+                Document accesses = stats.containsKey(index.getName())
+                        ? stats.get(index.getName()).get("accesses", Document.class) : null;
+                Document key = new Document();
+                index.getIndexFields().forEach(field -> key.append(field.getKey(),
+                        field.getDirection() == null ? 1 : field.getDirection().isAscending() ? 1 : -1));
+                usage.add(new StudentIndexUsage(collection, index.getName(), key.toJson(), index.isUnique(),
+                        accesses == null ? null : ((Number) accesses.get("ops")).longValue(),
+                        accesses == null || accesses.getDate("since") == null
+                                ? null : accesses.getDate("since").toInstant()));
+            });
+        }
+        return usage;
+    }
+
+    // counters are per mongod and reset on restart, so read them over a long enough window; always the
+    // primary's, with read routing on another call could otherwise report a different secondary
+    private Map<String, Document> indexStats(String collection) {
+        Map<String, Document> stats = new HashMap<>();
+        try {
+            mongoTemplate.getCollection(collection).withReadPreference(ReadPreference.primary())
+                    .aggregate(List.of(new Document("$indexStats", new Document())))
+                    .forEach(document -> stats.put(document.getString("name"), document));
+        } catch (RuntimeException e) {
+            log.debug("$indexStats not available for {}", collection, e);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,294 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentNameIndexService
+    @version 1.0.0
+    @since 10/18/2026 - 22.00
+*/
+
+import com.mongodb.ReadPreference;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.response.StudentNameSuggestion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Node-local sorted index of student names for type-ahead search.
+ * <p>
+ * Names are normalized (diacritics stripped, lower-cased) and kept in a {@link ConcurrentSkipListMap}, so a
+ * prefix lookup is one {@code O(log n)} seek plus a walk over the top {@code k} entries, without touching
+ * Mongo. The index is kept current by the write paths of this node and loaded in the background once the
+ * application is ready, so readiness does not wait for a scan of the whole collection. Until the load is
+ * complete ({@link #isLoaded()}, gauge {@code student.autocomplete.loaded}) suggestions only cover the names
+ * written since startup.
+ */
+@Slf4j
+@Service
+public class StudentNameIndexService implements MeterBinder {
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    // sorts before every name character (normalize() replaces it in names), so "<name><SEPARATOR><id>" keys of
+    // one name stay together, ahead of longer names that start with it
+    private static final char SEPARATOR = '\u0000';
+
+    private final MongoTemplate mongoTemplate;
+    // only with the "reactive" profile, loads then read through the reactive driver
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    // normalized name + SEPARATOR + id -> student, plus id -> key to find the entry again on update and delete;
+    // rebuild() replaces both under the write lock, single writes hold the read lock
+    private volatile NavigableMap<String, StudentNameSuggestion> names = new ConcurrentSkipListMap<>();
+    private volatile Map<String, String> keys = new ConcurrentHashMap<>();
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // ids indexed or removed while a rebuild loads, their live entry (or its absence) wins over the loaded one
+    private volatile Set<String> writtenDuringRebuild;
+    // bumped by clear(), a load that started before it is dropped instead of swapped in
+    private volatile long generation;
+    private volatile boolean loaded;
+
+    public StudentNameIndexService(MongoTemplate mongoTemplate) {
+        this(mongoTemplate, (ReactiveMongoTemplate) null);
+    }
+
+    @Autowired
+    public StudentNameIndexService(MongoTemplate mongoTemplate,
+                                   ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate) {
+        this(mongoTemplate, reactiveMongoTemplate.getIfAvailable());
+    }
+
+    public StudentNameIndexService(MongoTemplate mongoTemplate, ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread loader = new Thread(() -> {
+            try {
+                log.info("Indexed {} student names", rebuild());
+            } catch (DataAccessException e) {
+                log.warn("Could not load the student name index, suggestions only cover new writes", e);
+            }
+        }, "student-name-index-load");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // true once a full load has been swapped in
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Loads every stored student name into a new index, reading only {@code _id} and {@code name}, and swaps it
+     * in once complete; suggestions are served from the previous index until then. Students this node indexes
+     * or removes while the load runs keep their live state, so a delete is never brought back by a load that
+     * read the student before it was deleted. A {@link #clear()} while it loads drops the load.
+     *
+     * @return number of indexed names
+     */
+    public synchronized int rebuild() {
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        writtenDuringRebuild = written;
+        long startedIn = generation;
+        try {
+            NavigableMap<String, StudentNameSuggestion> loadedNames = new ConcurrentSkipListMap<>();
+            Map<String, String> loadedKeys = new ConcurrentHashMap<>();
+            // from the primary, so a rebuild does not bring back names a secondary has not seen change yet
+            Query query = new Query().withReadPreference(ReadPreference.primary());
+            query.fields().include("name");
+            // with the reactive driver only the calling thread waits: the loader, the change stream or an admin call
+            try (Stream<Student> students = reactiveMongoTemplate == null
+                    ? mongoTemplate.stream(query, Student.class)
+                    : reactiveMongoTemplate.find(query, Student.class).toStream()) {
+                students.forEach(student -> {
+                    if (student.getId() != null && student.getName() != null) {
+                        String key = key(student.getId(), student.getName());
+                        loadedKeys.put(student.getId(), key);
+                        loadedNames.put(key, new StudentNameSuggestion(student.getId(), student.getName()));
+                    }
+                });
+            }
+            swapLock.writeLock().lock();
+            try {
+                if (startedIn != generation) {
+                    return keys.size();
+                }
+                for (String id : written) {
+                    String loaded = loadedKeys.remove(id);
+                    if (loaded != null) {
+                        loadedNames.remove(loaded);
+                    }
+                    String live = keys.get(id);
+                    if (live != null) {
+                        loadedKeys.put(id, live);
+                        loadedNames.put(live, names.get(live));
+                    }
+                }
+                names = loadedNames;
+                keys = loadedKeys;
+                loaded = true;
+                return loadedKeys.size();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            writtenDuringRebuild = null;
+        }
+    }
+
+    public List<StudentNameSuggestion> suggest(String prefix, Integer limit) {
+        int k = resolveLimit(limit);
+        String normalized = prefix == null ? "" : normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<StudentNameSuggestion> suggestions = new ArrayList<>(k);
+        for (Map.Entry<String, StudentNameSuggestion> entry : names.tailMap(normalized).entrySet()) {
+            if (suggestions.size() == k || !entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            suggestions.add(entry.getValue());
+        }
+        return suggestions;
+    }
+
+    public void index(Student student) {
+        if (student != null) {
+            index(student.getId(), student.getName());
+        }
+    }
+
+    public void index(String id, String name) {
+        if (id == null) {
+            return;
+        }
+        if (name == null) {
+            remove(id);
+        } else {
+            put(id, name);
+        }
+    }
+
+    public void indexAll(Collection<Student> students) {
+        students.forEach(this::index);
+    }
+
+    public void remove(String id) {
+        if (id == null) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            keys.computeIfPresent(id, (ignored, key) -> {
+                names.remove(key);
+                return null;
+            });
+            markWritten(id);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        swapLock.writeLock().lock();
+        try {
+            names = new ConcurrentSkipListMap<>();
+            keys = new ConcurrentHashMap<>();
+            generation++;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("student.autocomplete.size", this, StudentNameIndexService::size)
+                .description("Student names held in the node-local autocomplete index")
+                .register(registry);
+        Gauge.builder("student.autocomplete.loaded", this, index -> index.loaded ? 1 : 0)
+                .description("1 once the autocomplete index of this node holds every stored name")
+                .register(registry);
+    }
+
+    // "Ána", "ana" and "ANA" all become the same key
+    public static String normalize(String name) {
+        return COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace(SEPARATOR, ' ');
+    }
+
+    // compute() serializes writers of the same id, so a renamed student never keeps two entries
+    private void put(String id, String name) {
+        String key = key(id, name);
+        swapLock.readLock().lock();
+        try {
+            keys.compute(id, (ignored, previous) -> {
+                if (previous != null && !previous.equals(key)) {
+                    names.remove(previous);
+                }
+                names.put(key, new StudentNameSuggestion(id, name));
+                return key;
+            });
+            markWritten(id);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void markWritten(String id) {
+        Set<String> written = writtenDuringRebuild;
+        if (written != null) {
+            written.add(id);
+        }
+    }
+
+    private static String key(String id, String name) {
+        return normalize(name) + SEPARATOR + id;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
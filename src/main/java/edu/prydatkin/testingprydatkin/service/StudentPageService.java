@@ -0,0 +1,196 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentPageService
+    @version 1.0.0
+    @since 10/17/2026 - 19.24
+*/
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.response.StudentPage;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over the student collection.
+ * <p>
+ * Every page is a range scan that starts right after the last document of the previous page,
+ * so page N costs the same as page 1. The position is handed to the client as an opaque cursor.
+ * Supported sort keys are {@code id} and {@code createDate}; {@code _id} is always the tie-breaker.
+ */
+@Service
+@Timed("student.service")
+@RequiredArgsConstructor
+public class StudentPageService {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 1000;
+
+    private static final String SORT_ID = "id";
+    private static final String SORT_CREATE_DATE = "createDate";
+    private static final String CURSOR_VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "-";
+    private static final int BSON_STRING = 2;
+    private static final int BSON_OBJECT_ID = 7;
+
+    private final MongoTemplate mongoTemplate;
+
+    public StudentPage<Student> getPage(StudentPageRequest request) {
+        Query query = pageQuery(request);
+        List<Student> students = mongoTemplate.find(query, Student.class);
+        return toPage(students, request);
+    }
+
+    public Query pageQuery(StudentPageRequest request) {
+        int limit = resolveLimit(request.limit());
+        String sort = resolveSort(request);
+        Sort.Direction direction = resolveDirection(request);
+
+        Query query = new Query();
+        if (request.cursor() != null && !request.cursor().isBlank()) {
+            query.addCriteria(afterCursor(decode(request.cursor()), sort, direction));
+        }
+        if (SORT_CREATE_DATE.equals(sort)) {
+            query.with(Sort.by(direction, "createDate", "_id"));
+        } else {
+            query.with(Sort.by(direction, "_id"));
+        }
+        // one extra document tells us whether another page exists
+        return query.limit(limit + 1);
+    }
+
+    public StudentPage<Student> toPage(List<Student> students, StudentPageRequest request) {
+        return toPage(students, request, Student::getCreateDate, Student::getId);
+    }
+
+    // for results that are not mapped to Student, e.g. projected documents
+    public <T> StudentPage<T> toPage(List<T> results, StudentPageRequest request,
+                                     Function<T, LocalDateTime> createDate, Function<T, String> id) {
+        int limit = resolveLimit(request.limit());
+        if (results.size() <= limit) {
+            return new StudentPage<>(results, null);
+        }
+        List<T> items = results.subList(0, limit);
+        T last = items.get(items.size() - 1);
+        return new StudentPage<>(List.copyOf(items),
+                encode(resolveSort(request), resolveDirection(request), createDate.apply(last), id.apply(last)));
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    private String resolveSort(StudentPageRequest request) {
+        String[] fromCursor = request.cursor() == null || request.cursor().isBlank() ? null : decode(request.cursor());
+        String sort = SORT_ID;
+        if (request.sort() != null && !request.sort().isBlank()) {
+            sort = request.sort().split(",")[0].trim();
+            if (!SORT_ID.equals(sort) && !SORT_CREATE_DATE.equals(sort)) {
+                throw new IllegalArgumentException("Unsupported sort key: " + sort);
+            }
+        } else if (fromCursor != null) {
+            sort = fromCursor[1];
+        }
+        if (fromCursor != null && !fromCursor[1].equals(sort)) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+        return sort;
+    }
+
+    private Sort.Direction resolveDirection(StudentPageRequest request) {
+        String[] fromCursor = request.cursor() == null || request.cursor().isBlank() ? null : decode(request.cursor());
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (request.sort() != null && request.sort().contains(",")) {
+            direction = Sort.Direction.fromString(request.sort().split(",")[1].trim());
+        } else if (fromCursor != null) {
+            direction = Sort.Direction.valueOf(fromCursor[2]);
+        }
+        if (fromCursor != null && direction != Sort.Direction.valueOf(fromCursor[2])) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+        return direction;
+    }
+
+    private Criteria afterCursor(String[] cursor, String sort, Sort.Direction direction) {
+        String id = cursor[4];
+        if (SORT_ID.equals(sort)) {
+            return idAfter(id, direction);
+        }
+        if (NULL_VALUE.equals(cursor[3])) {
+            // documents without createDate sort first ascending and last descending
+            Criteria sameKey = new Criteria().andOperator(Criteria.where("createDate").is(null), idAfter(id, direction));
+            if (direction.isDescending()) {
+                return sameKey;
+            }
+            return new Criteria().orOperator(sameKey, Criteria.where("createDate").ne(null));
+        }
+        LocalDateTime createDate;
+        try {
+            createDate = LocalDateTime.parse(cursor[3]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        Criteria sameKey = new Criteria().andOperator(Criteria.where("createDate").is(createDate), idAfter(id, direction));
+        if (direction.isDescending()) {
+            return new Criteria().orOperator(Criteria.where("createDate").lt(createDate), sameKey,
+                    Criteria.where("createDate").is(null));
+        }
+        return new Criteria().orOperator(Criteria.where("createDate").gt(createDate), sameKey);
+    }
+
+    // ids are stored either as ObjectId or as plain strings, and BSON strings sort before ObjectIds,
+    // so a range on one type has to explicitly let the other type through
+    private Criteria idAfter(String id, Sort.Direction direction) {
+        boolean objectId = ObjectId.isValid(id);
+        if (direction.isAscending()) {
+            return objectId
+                    ? Criteria.where("_id").gt(id)
+                    : new Criteria().orOperator(Criteria.where("_id").gt(id), Criteria.where("_id").type(BSON_OBJECT_ID));
+        }
+        return objectId
+                ? new Criteria().orOperator(Criteria.where("_id").lt(id), Criteria.where("_id").type(BSON_STRING))
+                : Criteria.where("_id").lt(id);
+    }
+
+    private String encode(String sort, Sort.Direction direction, LocalDateTime createDate, String id) {
+        String raw = String.join(SEPARATOR, CURSOR_VERSION, sort, direction.name(),
+                createDate == null ? NULL_VALUE : createDate.toString(), id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decode(String cursor) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 5);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        if (parts.length != 5 || !CURSOR_VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,127 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentProjectionService
+    @version 1.0.0
+    @since 10/18/2026 - 17.05
+*/
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.response.StudentPage;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads only the requested student fields ({@code ?fields=name,age}).
+ * <p>
+ * The selection becomes a Mongo projection and the raw documents are turned straight into field maps,
+ * so unselected fields such as {@code updateDate} never leave the database and no {@link Student} is built.
+ * {@code id} is always returned.
+ */
+@Service
+@Timed("student.service")
+@RequiredArgsConstructor
+public class StudentProjectionService {
+    public static final Set<String> FIELDS = Set.of("id", "name", "age", "gender", "createDate", "updateDate",
+            "lastModifiedDate", "version");
+
+    private final MongoTemplate mongoTemplate;
+    private final StudentPageService studentPageService;
+
+    public Map<String, Object> getById(String id, String fields) {
+        Set<String> selected = parseFields(fields);
+        Query query = project(Query.query(Criteria.where("_id").is(id)), selected);
+        Document document = mongoTemplate.query(Student.class).as(Document.class).matching(query).oneValue();
+        return document == null ? null : toMap(document, selected);
+    }
+
+    public StudentPage<Map<String, Object>> getPage(StudentPageRequest request, String fields) {
+        Set<String> selected = parseFields(fields);
+        Query query = project(studentPageService.pageQuery(request), selected);
+        List<Document> documents = mongoTemplate.query(Student.class).as(Document.class).matching(query).all();
+        return toPage(documents, request, selected);
+    }
+
+    public Set<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        if (fields != null) {
+            Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(field -> !field.isEmpty())
+                    .forEach(field -> {
+                        if (!FIELDS.contains(field)) {
+                            throw new IllegalArgumentException("Unknown field: " + field);
+                        }
+                        selected.add(field);
+                    });
+        }
+        return selected;
+    }
+
+    // createDate is always read as well, the page cursor needs it
+    public Query project(Query query, Set<String> selected) {
+        selected.forEach(field -> query.fields().include(field));
+        query.fields().include("createDate");
+        return query;
+    }
+
+    public StudentPage<Map<String, Object>> toPage(List<Document> documents, StudentPageRequest request,
+                                                   Set<String> selected) {
+        StudentPage<Document> page = studentPageService.toPage(documents, request, this::createDateOf, this::idOf);
+        return new StudentPage<>(page.items().stream().map(document -> toMap(document, selected)).toList(),
+                page.nextCursor());
+    }
+
+    public Map<String, Object> toMap(Document document, Set<String> selected) {
+        Map<String, Object> student = new LinkedHashMap<>();
+        for (String field : selected) {
+            student.put(field, "id".equals(field) ? idOf(document) : read(document.get(field)));
+        }
+        return student;
+    }
+
+    private String idOf(Document document) {
+        Object id = document.get("_id");
+        return id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id);
+    }
+
+    private LocalDateTime createDateOf(Document document) {
+        return (LocalDateTime) read(document.get("createDate"));
+    }
+
+    // dates come back as java.util.Date, convert them the same way the entity mapping does
+    private Object read(Object value) {
+        ConversionService conversionService = mongoTemplate.getConverter().getConversionService();
+        if (value instanceof Date date) {
+            return conversionService.convert(date, LocalDateTime.class);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> converted = new ArrayList<>(list.size());
+            list.forEach(element -> converted.add(read(element)));
+            return converted;
+        }
+        return value;
+    }
+}
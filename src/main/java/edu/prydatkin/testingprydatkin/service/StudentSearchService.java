@@ -0,0 +1,153 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentSearchService
+    @version 1.0.0
+    @since 10/18/2026 - 21.05
+*/
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.request.StudentSearchRequest;
+import edu.prydatkin.testingprydatkin.response.StudentSearchResult;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filtered and sorted student queries, evaluated by Mongo instead of the client.
+ * <p>
+ * Each filter becomes a {@link Criteria} on an indexed field: gender and age use {@code gender_age} (or
+ * {@code age_id} alone), the name prefix is an anchored case-sensitive regex on {@code name_id}, and the
+ * creation range uses {@code createDate_id}. Every sort key has an index ending in {@code _id}, so the sort
+ * including its tie-breaker is read off the index. Results are offset pages; the total is only counted on
+ * request.
+ */
+@Service
+@Timed("student.service")
+@RequiredArgsConstructor
+public class StudentSearchService {
+    public static final int MAX_OFFSET = 10_000;
+
+    private static final Map<String, String> SORT_FIELDS = Map.of("id", "_id", "name", "name", "age", "age",
+            "createDate", "createDate");
+
+    private static final String REGEX_META = "\\^$.|?*+()[]{}";
+
+    private final MongoTemplate mongoTemplate;
+
+    public StudentSearchResult search(StudentSearchRequest request) {
+        List<Student> students = mongoTemplate.find(searchQuery(request), Student.class);
+        Long total = request.withTotal() ? mongoTemplate.count(countQuery(request), Student.class) : null;
+        return toResult(students, request, total);
+    }
+
+    // the pieces below are shared with ReactiveStudentService, which runs the same queries non-blocking
+    public Query searchQuery(StudentSearchRequest request) {
+        int size = resolveSize(request.size());
+        int page = resolvePage(request.page(), size);
+        Query query = countQuery(request).with(resolveSort(request.sort())).skip((long) page * size);
+        // one extra document tells us whether another page exists
+        return query.limit(size + 1);
+    }
+
+    public Query countQuery(StudentSearchRequest request) {
+        Query query = new Query();
+        if (request.gender() != null && !request.gender().isBlank()) {
+            query.addCriteria(Criteria.where("gender").is(request.gender()));
+        }
+        if (request.minAge() != null || request.maxAge() != null) {
+            if (request.minAge() != null && request.maxAge() != null && request.minAge() > request.maxAge()) {
+                throw new IllegalArgumentException("minAge must not be greater than maxAge");
+            }
+            Criteria age = Criteria.where("age");
+            if (request.minAge() != null) {
+                age.gte(request.minAge());
+            }
+            if (request.maxAge() != null) {
+                age.lte(request.maxAge());
+            }
+            query.addCriteria(age);
+        }
+        if (request.namePrefix() != null && !request.namePrefix().isEmpty()) {
+            // anchored and case-sensitive, the only regex form Mongo answers with bounded index scans
+            query.addCriteria(Criteria.where("name").regex("^" + escape(request.namePrefix())));
+        }
+        if (request.createdFrom() != null || request.createdTo() != null) {
+            Criteria createDate = Criteria.where("createDate");
+            if (request.createdFrom() != null) {
+                createDate.gte(request.createdFrom().atStartOfDay());
+            }
+            if (request.createdTo() != null) {
+                createDate.lt(request.createdTo().plusDays(1).atStartOfDay());
+            }
+            query.addCriteria(createDate);
+        }
+        return query;
+    }
+
+    public StudentSearchResult toResult(List<Student> students, StudentSearchRequest request, Long total) {
+        int size = resolveSize(request.size());
+        int page = resolvePage(request.page(), size);
+        boolean hasNext = students.size() > size;
+        return new StudentSearchResult(hasNext ? List.copyOf(students.subList(0, size)) : students, page, size,
+                hasNext, total);
+    }
+
+    // plain backslash escapes keep it a literal prefix the server can turn into index bounds
+    private String escape(String prefix) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : prefix.toCharArray()) {
+            if (REGEX_META.indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private int resolveSize(Integer size) {
+        if (size == null) {
+            return StudentPageService.DEFAULT_LIMIT;
+        }
+        if (size < 1 || size > StudentPageService.MAX_LIMIT) {
+            throw new IllegalArgumentException("size must be between 1 and " + StudentPageService.MAX_LIMIT);
+        }
+        return size;
+    }
+
+    // skipped documents are still walked by the server, deep pages should use filters instead
+    private int resolvePage(Integer page, int size) {
+        if (page == null) {
+            return 0;
+        }
+        if (page < 0 || (long) page * size > MAX_OFFSET) {
+            throw new IllegalArgumentException("page must be between 0 and " + MAX_OFFSET / size);
+        }
+        return page;
+    }
+
+    private Sort resolveSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("_id");
+        }
+        String[] parts = sort.split(",");
+        String field = SORT_FIELDS.get(parts[0].trim());
+        if (field == null) {
+            throw new IllegalArgumentException("Unsupported sort key: " + parts[0].trim());
+        }
+        Sort.Direction direction = parts.length > 1 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+        // _id last, so documents with equal sort values keep a stable order across pages; in the same direction,
+        // which {field: 1, _id: 1} indexes can serve forwards and backwards
+        return "_id".equals(field) ? Sort.by(direction, field) : Sort.by(direction, field, "_id");
+    }
+}
@@ -0,0 +1,84 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentSeedService
+    @version 1.0.0
+    @since 10/18/2026 - 23.00
+*/
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import edu.prydatkin.testingprydatkin.model.Student;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Demo students for local and test environments, only active with the {@code seed} profile.
+ * <p>
+ * Each seed is an upsert by fixed id with {@code $setOnInsert}, so re-running it (every boot, every node of a
+ * rolling restart) inserts only what is missing and never touches or deletes existing documents. It runs
+ * asynchronously after startup, readiness does not wait for it.
+ */
+@Slf4j
+@Service
+@Profile("seed")
+@RequiredArgsConstructor
+public class StudentSeedService {
+    private static final List<Student> SEEDS = List.of(
+            new Student("1", "Andrew", 17, "Male"),
+            new Student("2", "Victoria", 17, "Female"),
+            new Student("3", "Borys", 19, "Male"));
+
+    private final MongoTemplate mongoTemplate;
+    private final StudentNameIndexService studentNameIndexService;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        try {
+            log.info("Seeded {} of {} students", seed(), SEEDS.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not seed students", e);
+        }
+    }
+
+    /**
+     * @return number of seeds that were missing and got inserted
+     */
+    public int seed() {
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class);
+        for (Student seed : SEEDS) {
+            operations.upsert(Query.query(Criteria.where("_id").is(seed.getId())), new Update()
+                    .setOnInsert("name", seed.getName())
+                    .setOnInsert("age", seed.getAge())
+                    .setOnInsert("gender", seed.getGender())
+                    .setOnInsert("createDate", now)
+                    .setOnInsert("updateDate", new ArrayList<>())
+                    .setOnInsert("lastModifiedDate", now));
+        }
+        BulkWriteResult result = operations.execute();
+        for (BulkWriteUpsert upsert : result.getUpserts()) {
+            studentNameIndexService.index(SEEDS.get(upsert.getIndex()));
+        }
+        return result.getUpserts().size();
+    }
+}
@@ -13,38 +13,50 @@ import edu.prydatkin.testingprydatkin.model.Student;
 import edu.prydatkin.testingprydatkin.repository.StudentRepository;
 import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
 import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
+@Timed("student.service")
 @RequiredArgsConstructor
 public class StudentService {
     private final StudentRepository studentRepository;
+    private final MongoTemplate mongoTemplate;
+    private final StudentHistoryService studentHistoryService;
+    private final StudentCacheService studentCacheService;
+    private final StudentETagService studentETagService;
+    private final StudentNameIndexService studentNameIndexService;
 
-    private final List<Student> students = new ArrayList<>();
-    {
-        students.add(new Student("Andrew", 17, "Male"));
-        students.add(new Student("2","Victoria", 17, "Female"));
-        students.add(new Student("3","Borys", 19, "Male"));
-    }
+    public List<Student> getAll() {return studentRepository.findAll();}
 
+    public Stream<Student> streamAll() {return studentRepository.streamAllBy();}
 
-    @PostConstruct
-    public void init() {
-        studentRepository.deleteAll();
-        studentRepository.saveAll(students);
+    public Student getById(String id) {
+        return studentCacheService.get(id, key -> studentRepository.findById(key).orElse(null));
     }
 
-    public List<Student> getAll() {return studentRepository.findAll();}
-
-    public Student getById(String id) {return studentRepository.findById(id).orElse(null);}
-
-    public Student create(Student students) {return studentRepository.save(students);}
+    // always a new document: an id that is already stored is refused with DuplicateKeyException instead of
+    // overwritten, and the version starts at 0 whatever the client sent, so a create never resets the counter
+    // that ETags and If-Match compare against
+    public Student create(Student students) {
+        students.setVersion(0L);
+        Student saved = studentRepository.insert(students);
+        studentCacheService.evict(students.getId());
+        studentNameIndexService.index(saved);
+        return saved;
+    }
 
     public Student create(StudentCreateRequest request) {
         if (studentRepository.existsByGender(request.gender())) {
@@ -53,12 +65,35 @@ public class StudentService {
         Student student = mapToStudent(request);
         student.setCreateDate(LocalDateTime.now());
         student.setUpdateDate(new ArrayList<>());
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        studentNameIndexService.index(saved);
+        return saved;
+    }
+
+    public Student update(Student student) {
+        return update(student, null);
     }
 
-    public Student update(Student student) {return studentRepository.save(student);}
+    // whole-document write; without If-Match it creates a missing student like save() did
+    public Student update(Student student, String ifMatch) {
+        if (student.getId() == null && ifMatch == null) {
+            return create(student);
+        }
+        Query query = studentETagService.ifMatchQuery(student.getId(), ifMatch);
+        Student updated = mongoTemplate.findAndModify(query,
+                studentHistoryService.replaceUpdate(student, LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true).upsert(ifMatch == null), Student.class);
+        studentCacheService.evict(student.getId());
+        studentNameIndexService.index(updated);
+        return requireMatched(updated, student.getId(), ifMatch);
+    }
 
-    public void deleteById(String id) {studentRepository.deleteById(id);}
+    public void deleteById(String id) {
+        studentRepository.deleteById(id);
+        studentCacheService.evict(id);
+        studentNameIndexService.remove(id);
+        studentHistoryService.deleteHistory(id);
+    }
 
     private Student mapToStudent(StudentCreateRequest request) {
         Student student = new Student(request.name(), request.age(), request.gender());
@@ -66,25 +101,38 @@ public class StudentService {
     }
 
     public Student update(StudentUpdateRequest request) {
-        Student studentPersisted = studentRepository.findById(request.id()).orElse(null);
-        if (studentPersisted != null) {
-            List<LocalDateTime> updateDates = studentPersisted.getUpdateDate();
-            if (updateDates == null) {
-                updateDates = new ArrayList<>();
-            }
-            updateDates.add(LocalDateTime.now());
-
-            Student itemToUpdate = Student.builder()
-                    .id(request.id())
-                    .name(request.name())
-                    .age(request.age())
-                    .gender(request.gender())
-                    .createDate(studentPersisted.getCreateDate())
-                    .updateDate(updateDates)
-                    .build();
-            return studentRepository.save(itemToUpdate);
+        return update(request, null);
+    }
+
+    // one atomic findAndModify instead of findById + save, so concurrent edits cannot drop updateDate entries;
+    // with If-Match the version condition is part of the same write, a conflict costs no extra read
+    public Student update(StudentUpdateRequest request, String ifMatch) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = studentETagService.ifMatchQuery(request.id(), ifMatch);
+        Update update = studentHistoryService.recordUpdate(new Update()
+                .set("name", request.name())
+                .set("age", request.age())
+                .set("gender", request.gender()), now);
+        Student updated = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                Student.class);
+        studentCacheService.evict(request.id());
+        if (updated != null) {
+            studentNameIndexService.index(updated);
+            studentHistoryService.archive(updated.getId(), now);
         }
-        return null;
+        return requireMatched(updated, request.id(), ifMatch);
+    }
+
+    // a conditional write that matched nothing: the student changed since the tag was read, or is gone
+    private Student requireMatched(Student updated, String id, String ifMatch) {
+        if (updated == null && ifMatch != null) {
+            throw new OptimisticLockingFailureException("Student " + id + " does not match If-Match " + ifMatch);
+        }
+        return updated;
+    }
+
+    public List<LocalDateTime> getHistory(String id, LocalDate from, LocalDate to) {
+        return studentHistoryService.getHistory(id, from, to);
     }
 
 }
@@ -0,0 +1,162 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentStatsService
+    @version 1.0.0
+    @since 10/18/2026 - 20.10
+*/
+
+import edu.prydatkin.testingprydatkin.config.StudentStatsProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.response.StudentAgeBucket;
+import edu.prydatkin.testingprydatkin.response.StudentStats;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Student statistics computed by Mongo in a single {@code $facet} aggregation.
+ * <p>
+ * Gender counts, the age histogram ({@code $bucket}), min/max/average age and creations per day share one
+ * pass over the collection, and only the aggregated numbers come back over the wire.
+ */
+@Service
+@Timed("student.service")
+@RequiredArgsConstructor
+public class StudentStatsService {
+    private static final String OTHER_AGES = "other";
+    private static final String DAY_FORMAT = "%Y-%m-%d";
+
+    private final MongoTemplate mongoTemplate;
+    private final StudentStatsProperties properties;
+
+    /**
+     * @param ageBuckets comma separated ascending bucket boundaries, e.g. {@code 0,18,25,60}; null for the
+     *                   configured ones
+     * @param days       how many days back creations are counted, including today; null for the configured value
+     */
+    public StudentStats getStats(String ageBuckets, Integer days) {
+        List<Integer> boundaries = parseBoundaries(ageBuckets);
+        Document result = mongoTemplate.aggregate(statsAggregation(boundaries, days), Student.class, Document.class)
+                .getUniqueMappedResult();
+        return toStats(result, boundaries);
+    }
+
+    // the pieces below are shared with ReactiveStudentService, which runs the same pipeline non-blocking
+    public List<Integer> parseBoundaries(String ageBuckets) {
+        List<Integer> boundaries = ageBuckets == null || ageBuckets.isBlank()
+                ? properties.ageBoundaries()
+                : Arrays.stream(ageBuckets.split(","))
+                        .map(String::trim)
+                        .map(this::parseAge)
+                        .toList();
+        if (boundaries.size() < 2) {
+            throw new IllegalArgumentException("ageBuckets needs at least two boundaries");
+        }
+        for (int i = 1; i < boundaries.size(); i++) {
+            if (boundaries.get(i) <= boundaries.get(i - 1)) {
+                throw new IllegalArgumentException("ageBuckets must be strictly ascending");
+            }
+        }
+        return boundaries;
+    }
+
+    public Aggregation statsAggregation(List<Integer> boundaries, Integer days) {
+        int createdDays = days == null ? properties.createdDays() : days;
+        if (createdDays < 1) {
+            throw new IllegalArgumentException("days must be positive");
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        return Aggregation.newAggregation(Aggregation
+                .facet(Aggregation.group("gender").count().as("count")).as("genders")
+                .and(Aggregation.group().count().as("count")
+                        .min("age").as("min")
+                        .max("age").as("max")
+                        .avg("age").as("avg")).as("ages")
+                .and(Aggregation.bucket("age")
+                        .withBoundaries(boundaries.toArray())
+                        .withDefaultBucket(OTHER_AGES)
+                        .andOutputCount().as("count")).as("histogram")
+                // createDate is stored from LocalDateTime in the JVM zone, so days are cut in that zone too
+                .and(Aggregation.match(Criteria.where("createDate")
+                                .gte(LocalDate.now(zone).minusDays(createdDays - 1L).atStartOfDay())),
+                        Aggregation.project().and(DateOperators.dateOf("createDate")
+                                .withTimezone(DateOperators.Timezone.fromZone(zone))
+                                .toString(DAY_FORMAT)).as("day"),
+                        Aggregation.group("day").count().as("count")).as("created"));
+    }
+
+    public StudentStats toStats(Document result, List<Integer> boundaries) {
+        Map<String, Long> genders = new TreeMap<>();
+        for (Document gender : facet(result, "genders")) {
+            genders.put(String.valueOf(gender.get("_id")), count(gender));
+        }
+
+        List<Document> ages = facet(result, "ages");
+        Document age = ages.isEmpty() ? new Document() : ages.get(0);
+
+        Map<Object, Long> counts = new HashMap<>();
+        for (Document bucket : facet(result, "histogram")) {
+            Object id = bucket.get("_id");
+            counts.put(id instanceof Number number ? (Object) number.intValue() : id, count(bucket));
+        }
+        // empty buckets are not emitted by $bucket, they are listed here with 0 so the histogram is complete
+        List<StudentAgeBucket> histogram = new ArrayList<>();
+        for (int i = 0; i + 1 < boundaries.size(); i++) {
+            histogram.add(new StudentAgeBucket(boundaries.get(i), boundaries.get(i + 1),
+                    counts.getOrDefault(boundaries.get(i), 0L)));
+        }
+        if (counts.containsKey(OTHER_AGES)) {
+            histogram.add(new StudentAgeBucket(null, null, counts.get(OTHER_AGES)));
+        }
+
+        Map<LocalDate, Long> createdPerDay = new TreeMap<>();
+        for (Document day : facet(result, "created")) {
+            createdPerDay.put(LocalDate.parse(day.getString("_id")), count(day));
+        }
+
+        Number min = number(age.get("min"));
+        Number max = number(age.get("max"));
+        Number avg = number(age.get("avg"));
+        return new StudentStats(age.isEmpty() ? 0 : count(age), genders, histogram,
+                min == null ? null : min.intValue(), max == null ? null : max.intValue(),
+                avg == null ? null : avg.doubleValue(), createdPerDay);
+    }
+
+    private List<Document> facet(Document result, String name) {
+        return result == null ? List.of() : result.getList(name, Document.class, List.of());
+    }
+
+    private long count(Document document) {
+        return ((Number) document.get("count")).longValue();
+    }
+
+    private Number number(Object value) {
+        return value instanceof Number number ? number : null;
+    }
+
+    private int parseAge(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid age bucket boundary: " + value);
+        }
+    }
+}
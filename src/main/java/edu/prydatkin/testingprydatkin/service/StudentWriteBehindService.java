@@ -0,0 +1,267 @@
+package edu.prydatkin.testingprydatkin.service;
+
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentWriteBehindService
+    @version 1.0.0
+    @since 10/19/2026 - 14.30
+*/
+
+import edu.prydatkin.testingprydatkin.config.StudentWriteBehindProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.response.BatchItemStatus;
+import edu.prydatkin.testingprydatkin.response.StudentBatchItemResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Optional write-behind path for single creates ({@code student.write-behind.enabled}).
+ * <p>
+ * A create is validated, given its id and createDate and put on a bounded in-memory queue; the caller gets
+ * {@code 202 Accepted} right away. One background thread drains the queue into
+ * {@link StudentBulkService#createAll(List, List, List)} batches (with the {@code reactive} profile
+ * {@link ReactiveStudentBulkService#createAll(List, List, List)}) once {@code batch-size} creates are waiting or
+ * the oldest one has waited {@code flush-interval}, so a burst costs one bulk insert and one gender lookup per
+ * batch instead of two round trips per student. A full queue is refused with {@link RejectedExecutionException}
+ * (503), and whatever is still queued is flushed when the application stops.
+ * <p>
+ * Accepted does not mean stored yet: a create the gender rule rejects at flush time, or one lost with the
+ * process, only shows up in the log and the {@code student.write-behind.items} counter.
+ */
+@Slf4j
+@Service
+public class StudentWriteBehindService implements SmartLifecycle {
+    // stopped after the web server (DEFAULT_PHASE - 2048), so creates accepted until then are flushed too
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final StudentBulkService studentBulkService;
+    private final ReactiveStudentBulkService reactiveStudentBulkService;
+    private final StudentWriteBehindProperties properties;
+    private final BlockingQueue<Student> queue;
+    private final int batchSize;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter overflows;
+    private final MeterRegistry registry;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public StudentWriteBehindService(StudentBulkService studentBulkService, StudentWriteBehindProperties properties,
+                                     MeterRegistry registry) {
+        this(studentBulkService, (ReactiveStudentBulkService) null, properties, registry);
+    }
+
+    // the reactive bulk service only exists with the "reactive" profile
+    @Autowired
+    public StudentWriteBehindService(StudentBulkService studentBulkService,
+                                     ObjectProvider<ReactiveStudentBulkService> reactiveStudentBulkService,
+                                     StudentWriteBehindProperties properties, MeterRegistry registry) {
+        this(studentBulkService, reactiveStudentBulkService.getIfAvailable(), properties, registry);
+    }
+
+    public StudentWriteBehindService(StudentBulkService studentBulkService,
+                                     ReactiveStudentBulkService reactiveStudentBulkService,
+                                     StudentWriteBehindProperties properties, MeterRegistry registry) {
+        this.studentBulkService = studentBulkService;
+        this.reactiveStudentBulkService = reactiveStudentBulkService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.capacity());
+        this.batchSize = Math.min(properties.batchSize(), StudentBulkService.MAX_BATCH_SIZE);
+        this.registry = registry;
+        Gauge.builder("student.write-behind.queue.depth", queue, BlockingQueue::size)
+                .description("Creates accepted but not yet written")
+                .register(registry);
+        this.flushTimer = Timer.builder("student.write-behind.flush")
+                .description("Time to write one batch of queued creates")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.batchSizes = DistributionSummary.builder("student.write-behind.batch.size")
+                .description("Creates written per flush")
+                .register(registry);
+        this.overflows = Counter.builder("student.write-behind.overflow")
+                .description("Creates refused because the queue was full")
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Queues a create and returns the student as it will be stored.
+     *
+     * @throws IllegalArgumentException    when the request is invalid
+     * @throws RejectedExecutionException when the queue is full or the application is stopping
+     */
+    public Student enqueue(StudentCreateRequest request) {
+        // the rules of a batch create, so a queued create is refused exactly when its batch item would be INVALID
+        String violations = studentBulkService.validate(request);
+        if (violations != null) {
+            throw new IllegalArgumentException(violations);
+        }
+        if (!running) {
+            throw new RejectedExecutionException("Student writes are not accepted right now");
+        }
+        // the queued student is also the response, so the client sees the id and createDate that get stored
+        Student student = Student.builder()
+                .id(new ObjectId().toHexString())
+                .name(request.name())
+                .age(request.age())
+                .gender(request.gender())
+                .createDate(LocalDateTime.now())
+                .updateDate(new ArrayList<>())
+                .build();
+        if (!queue.offer(student)) {
+            overflows.increment();
+            throw new RejectedExecutionException("Too many pending student writes, retry later");
+        }
+        return student;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drain, "student-write-behind");
+        worker.start();
+    }
+
+    // waits up to shutdown-timeout for the queue to be written
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(properties.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive() || !queue.isEmpty()) {
+            log.error("Stopped with {} student creates not written", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.enabled();
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drain() {
+        List<Student> batch = new ArrayList<>(batchSize);
+        long interval = properties.flushInterval().toNanos();
+        while (running || !queue.isEmpty()) {
+            try {
+                Student first = queue.poll(interval, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // the oldest create waits at most one interval, a full batch goes out right away
+                long deadline = System.nanoTime() + interval;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() == batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    Student next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Student> batch) {
+        List<StudentCreateRequest> requests = batch.stream()
+                .map(student -> new StudentCreateRequest(student.getName(), student.getAge(), student.getGender()))
+                .toList();
+        List<String> ids = batch.stream().map(Student::getId).toList();
+        List<LocalDateTime> createDates = batch.stream().map(Student::getCreateDate).toList();
+        for (int attempt = 0; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                List<StudentBatchItemResult> results = reactiveStudentBulkService == null
+                        ? studentBulkService.createAll(requests, ids, createDates)
+                        // reactive profile: written through the reactive driver, only this worker thread waits
+                        : reactiveStudentBulkService.createAll(requests, ids, createDates).block();
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                batchSizes.record(batch.size());
+                report(results, ids);
+                return;
+            } catch (RuntimeException e) {
+                // e.g. the database is unreachable; ids are fixed, so a retry cannot create duplicates and
+                // reports students an interrupted attempt already stored as CREATED
+                if (attempt >= properties.maxRetries()) {
+                    log.error("Dropped {} queued student creates: {}", batch.size(), e.getMessage());
+                    count(BatchItemStatus.FAILED, batch.size());
+                    return;
+                }
+                log.warn("Flush of {} student creates failed, retrying: {}", batch.size(), e.getMessage());
+                try {
+                    Thread.sleep(properties.flushInterval().toMillis() << attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void report(List<StudentBatchItemResult> results, List<String> ids) {
+        results.stream()
+                .collect(Collectors.groupingBy(StudentBatchItemResult::status, Collectors.counting()))
+                .forEach((status, count) -> count(status, count));
+        for (StudentBatchItemResult result : results) {
+            if (result.status() != BatchItemStatus.CREATED) {
+                log.warn("Queued student {} was not created: {} {}", ids.get(result.index()), result.status(),
+                        result.message());
+            }
+        }
+    }
+
+    private void count(BatchItemStatus status, long count) {
+        registry.counter("student.write-behind.items", "status", status.name().toLowerCase()).increment(count);
+    }
+}
@@ -1,13 +1,28 @@
 package edu.prydatkin.testingprydatkin;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest
 class TestingPrydatkinApplicationTests {
 
+    @Autowired
+    private ApplicationContext context;
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    void servletModeOpensOnlyTheBlockingMongoClient() {
+        assertEquals(1, context.getBeanNamesForType(com.mongodb.client.MongoClient.class).length);
+        assertEquals(0, context.getBeanNamesForType(com.mongodb.reactivestreams.client.MongoClient.class).length);
+        assertEquals(0, context.getBeanNamesForType(ReactiveMongoTemplate.class).length);
+    }
+
 }
@@ -2,8 +2,10 @@ package edu.prydatkin.testingprydatkin;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
 import com.tngtech.archunit.junit.ArchTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,9 +29,15 @@ class TestingPrydatkinArchitectureTests {
                 .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_ARCHIVES)
                 .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_JARS)
                 .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+                .withImportOption(TestingPrydatkinArchitectureTests::isNotAotGenerated)
                 .importPackages("edu.prydatkin.testingprydatkin");
     }
 
+    // -Pfast-startup leaves __BeanDefinitions and $$SpringCGLIB$$ classes in target/classes, they are not ours
+    private static boolean isNotAotGenerated(Location location) {
+        return !location.contains("__") && !location.contains("$$SpringCGLIB$$");
+    }
+
     @Test
     void shouldFollowLayerArchitecture()  {
         layeredArchitecture()
@@ -114,10 +122,12 @@ class TestingPrydatkinArchitectureTests {
 
     }
 
+    // javac's own helper classes, such as the $1 switch map behind a switch on an enum, are not service classes
     @Test
     void serviceClassesShouldBeNamedXService() {
         classes()
                 .that().resideInAPackage("..service..")
+                .and().doNotHaveModifier(JavaModifier.SYNTHETIC)
                 .should().haveSimpleNameEndingWith("Service")
                 .check(applicationClasses);
     }
@@ -126,6 +136,7 @@ class TestingPrydatkinArchitectureTests {
     void serviceClassesShouldBeAnnotatedWithService() {
         classes()
                 .that().resideInAPackage("..service..")
+                .and().doNotHaveModifier(JavaModifier.SYNTHETIC)
                 .should().beAnnotatedWith(org.springframework.stereotype.Service.class)
                 .check(applicationClasses);
     }
@@ -176,6 +187,7 @@ class TestingPrydatkinArchitectureTests {
     void serviceClassesShouldBeClassesNotInterfaces() {
         classes()
                 .that().resideInAPackage("..service..")
+                .and().doNotHaveModifier(JavaModifier.SYNTHETIC)
                 .should().beTopLevelClasses()
                 .andShould().notBeInterfaces()
                 .check(applicationClasses);
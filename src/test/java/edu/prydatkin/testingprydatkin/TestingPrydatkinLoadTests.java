@@ -0,0 +1,332 @@
+package edu.prydatkin.testingprydatkin;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import edu.prydatkin.testingprydatkin.model.Student;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class TestingPrydatkinLoadTests
+    @version 1.0.0
+    @since 10/18/2026 - 16.10
+*/
+
+/**
+ * Mixed read/create/update/delete load against {@code /api/v1/student/}, run with {@code mvn -Ploadtest test}.
+ * <p>
+ * The application runs against an in-process mongo-java-server unless {@code -Dload.mongo.uri} points to a real
+ * server. Workload and budgets are system properties ({@code load.*}, defaults below); the run fails when the
+ * p99 latency, the throughput or the error rate misses its budget. Numbers against the stand-in are only
+ * comparable with other runs against the stand-in on the same machine; the default budgets leave headroom on a
+ * single-core runner and should be tightened to whatever the CI machine sustains.
+ * <p>
+ * {@code src/test/scripts/compare-threading.sh} runs the same workload with platform and with virtual request
+ * threads ({@code virtual-threads} profile) and prints throughput and p99 of both runs side by side.
+ */
+@Tag("load")
+// explain plans would compete with the measured load (and the stand-in cannot explain)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "student.profiler.explain=false")
+class TestingPrydatkinLoadTests {
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 15);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 30);
+    private static final int STUDENTS = Integer.getInteger("load.students", 2000);
+    private static final int UPDATE_DATES = Integer.getInteger("load.update-dates", 20);
+    private static final String MIX = System.getProperty("load.mix", "read=60,page=10,create=10,update=15,delete=5");
+    private static final long BUDGET_P99_MILLIS = Long.getLong("load.budget.p99-millis", 1000);
+    private static final double BUDGET_THROUGHPUT = Double.parseDouble(
+            System.getProperty("load.budget.throughput", "75"));
+    private static final double BUDGET_ERROR_RATE = Double.parseDouble(
+            System.getProperty("load.budget.error-rate", "0.01"));
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static MongoServer mongoServer;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<String> seededIds = new ArrayList<>();
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        String uri = System.getProperty("load.mongo.uri");
+        if (uri == null) {
+            mongoServer = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongoServer.bind();
+            uri = "mongodb://" + address.getHostString() + ":" + address.getPort();
+        }
+        String mongoUri = uri;
+        registry.add("spring.data.mongodb.uri", () -> mongoUri);
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        if (mongoServer != null) {
+            mongoServer.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldStayWithinThroughputAndLatencyBudgets() throws Exception {
+        // on Java 17 Spring ignores spring.threads.virtual.enabled, such a run would be labelled wrong
+        boolean virtualRequested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        String threads = Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform";
+        assumeTrue(!virtualRequested || threads.equals("virtual"),
+                "virtual threads need Java 21+, this JVM is " + Runtime.version());
+        seed();
+        Map<Operation, Integer> mix = parseMix(MIX);
+
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+        long end = measureFrom + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<Map<Operation, Samples>>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            results.add(workers.submit(() -> drive(mix, measureFrom, end)));
+        }
+        Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, Samples>> result : results) {
+            result.get().forEach((operation, workerSamples) ->
+                    samples.computeIfAbsent(operation, key -> new Samples()).addAll(workerSamples));
+        }
+        workers.shutdown();
+
+        Samples total = new Samples();
+        samples.values().forEach(total::addAll);
+        double seconds = DURATION_SECONDS;
+        System.out.printf("%nload: threads=%s, concurrency=%d, duration=%ds, students=%d, updateDates=%d, mix=%s%n",
+                threads, CONCURRENCY, DURATION_SECONDS, STUDENTS, UPDATE_DATES, MIX);
+        System.out.printf("%-8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "op", "count", "errors", "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        samples.forEach((operation, operationSamples) -> print(operation.name().toLowerCase(), operationSamples,
+                seconds));
+        print("total", total, seconds);
+
+        double throughput = total.count() / seconds;
+        double errorRate = total.count() == 0 ? 1 : (double) total.errors / total.count();
+        double p99 = total.percentileMillis(0.99);
+        // one greppable line per run, compare-threading.sh collects it
+        System.out.printf("load result: threads=%s throughput=%.1f p99=%.2f errorRate=%.4f%n", threads, throughput,
+                p99, errorRate);
+        assertAll(
+                () -> assertTrue(throughput >= BUDGET_THROUGHPUT,
+                        String.format("throughput %.1f ops/s is below the budget of %.1f", throughput,
+                                BUDGET_THROUGHPUT)),
+                () -> assertTrue(p99 <= BUDGET_P99_MILLIS,
+                        String.format("p99 %.1f ms is above the budget of %d ms", p99, BUDGET_P99_MILLIS)),
+                () -> assertTrue(errorRate <= BUDGET_ERROR_RATE,
+                        String.format("error rate %.4f is above the budget of %.4f", errorRate,
+                                BUDGET_ERROR_RATE)));
+    }
+
+    private void seed() {
+        mongoTemplate.dropCollection(Student.class);
+        LocalDateTime now = LocalDateTime.now();
+        List<Student> batch = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            List<LocalDateTime> updates = new ArrayList<>(UPDATE_DATES);
+            for (int j = 0; j < UPDATE_DATES; j++) {
+                updates.add(now.minusMinutes(UPDATE_DATES - j));
+            }
+            batch.add(Student.builder()
+                    .name("Student " + i)
+                    .age(17 + i % 10)
+                    .gender("Gender " + i % 3)
+                    .createDate(now.minusDays(i % 365))
+                    .updateDate(updates)
+                    .build());
+            if (batch.size() == 1000 || i == STUDENTS - 1) {
+                mongoTemplate.insert(batch, Student.class).forEach(student -> seededIds.add(student.getId()));
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    private Map<Operation, Samples> drive(Map<Operation, Integer> mix, long measureFrom, long end) {
+        int weights = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < end) {
+            int pick = random.nextInt(weights);
+            Operation operation = null;
+            for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    operation = entry.getKey();
+                    break;
+                }
+            }
+            long started = System.nanoTime();
+            boolean ok = execute(operation, random);
+            long finished = System.nanoTime();
+            if (started >= measureFrom && finished <= end) {
+                samples.computeIfAbsent(operation, key -> new Samples()).add(finished - started, ok);
+            }
+        }
+        return samples;
+    }
+
+    private boolean execute(Operation operation, ThreadLocalRandom random) {
+        String base = "http://localhost:" + port + "/api/v1/student/";
+        String seededId = seededIds.get(random.nextInt(seededIds.size()));
+        try {
+            HttpResponse<String> response = switch (operation) {
+                case READ -> send(HttpRequest.newBuilder(URI.create(base + seededId)).GET());
+                case PAGE -> send(HttpRequest.newBuilder(URI.create(base + "?limit=20&sort=createDate,desc")).GET());
+                case CREATE -> {
+                    HttpResponse<String> created = create(base);
+                    Matcher id = ID.matcher(created.body());
+                    if (id.find()) {
+                        createdIds.add(id.group(1));
+                    }
+                    yield created;
+                }
+                case UPDATE -> send(json(HttpRequest.newBuilder(URI.create(base + "dto")),
+                        "{\"id\":\"" + seededId + "\",\"name\":\"Updated\",\"age\":" + (17 + random.nextInt(10))
+                                + ",\"gender\":\"Load\"}", "PUT"));
+                case DELETE -> {
+                    // seeded students are never deleted, later reads and updates of them must not 404
+                    String id = createdIds.poll();
+                    if (id == null) {
+                        Matcher created = ID.matcher(create(base).body());
+                        if (!created.find()) {
+                            yield null;
+                        }
+                        id = created.group(1);
+                    }
+                    yield send(HttpRequest.newBuilder(URI.create(base + id)).DELETE());
+                }
+            };
+            return response != null && response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpResponse<String> create(String base) throws IOException, InterruptedException {
+        return send(json(HttpRequest.newBuilder(URI.create(base)),
+                "{\"name\":\"Load\",\"age\":20,\"gender\":\"Load\"}", "POST"));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder request, String body, String method) {
+        return request.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] weight = part.split("=");
+            weights.put(Operation.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+        }
+        return weights;
+    }
+
+    private static void print(String name, Samples samples, double seconds) {
+        System.out.printf("%-8s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, samples.count(), samples.errors,
+                samples.count() / seconds, samples.percentileMillis(0.5), samples.percentileMillis(0.95),
+                samples.percentileMillis(0.99), samples.percentileMillis(1.0));
+    }
+
+    private enum Operation {
+        READ, PAGE, CREATE, UPDATE, DELETE
+    }
+
+    // every latency of one worker, merged and sorted once at the end
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+        private boolean sorted;
+
+        void add(long elapsedNanos, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsedNanos;
+            if (!ok) {
+                errors++;
+            }
+            sorted = false;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.nanos[i], true);
+            }
+            errors += other.errors;
+        }
+
+        int count() {
+            return size;
+        }
+
+        double percentileMillis(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(nanos, 0, size);
+                sorted = true;
+            }
+            int index = (int) Math.ceil(percentile * size) - 1;
+            return nanos[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package edu.prydatkin.testingprydatkin;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class TestingPrydatkinMetricsTests
+    @version 1.0.0
+    @since 10/18/2026 - 15.40
+*/
+
+// src/test/resources/application.properties replaces the main one, so the metrics settings are repeated here
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.endpoints.web.exposure.include=prometheus",
+        "management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+        "management.metrics.distribution.percentiles-histogram.mongodb.driver.commands=true",
+        "student.mongo.read-routing.enabled=true"
+})
+@AutoConfigureObservability
+class TestingPrydatkinMetricsTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void shouldPublishHttpServiceAndMongoMetricsInPrometheusFormat() {
+        restTemplate.getForObject("/api/v1/student/?limit=2", String.class);
+        restTemplate.getForObject("/api/v1/student/2", String.class);
+
+        String metrics = restTemplate.getForObject("/actuator/prometheus", String.class);
+
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(metrics.contains("uri=\"/api/v1/student/{id}\""));
+        assertTrue(metrics.contains("le=\"+Inf\""));
+        assertTrue(metrics.contains("student_service_seconds_count{"));
+        assertTrue(metrics.contains("mongodb_driver_commands_seconds_bucket{"));
+        assertTrue(metrics.contains("mongodb_driver_pool_size{"));
+        assertTrue(metrics.contains("spring_data_repository_invocations_seconds_count{"));
+        assertTrue(metrics.contains("cache_gets_total{"));
+        // secondaryPreferred against the single test server still gets an answer, from the standalone
+        assertTrue(metrics.lines().anyMatch(line -> line.startsWith("mongodb_reads_total{")
+                && line.contains("collection=\"student\"") && line.contains("server=\"standalone\"")));
+        assertTrue(metrics.lines().anyMatch(line -> line.startsWith("application_first_request_time_seconds")
+                && !line.endsWith("NaN")));
+    }
+}
@@ -0,0 +1,110 @@
+package edu.prydatkin.testingprydatkin.controller;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveStudentRestControllerTest
+    @version 1.0.0
+    @since 10/18/2026 - 13.30
+*/
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveStudentRestControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testReactiveProfileReplacesServletController() {
+        assertEquals(1, context.getBeansOfType(ReactiveStudentRestController.class).size());
+        assertTrue(context.getBeansOfType(StudentRestController.class).isEmpty());
+    }
+
+    @Test
+    void testShowOneById() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+
+        client.get().uri("/api/v1/student/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Student.class)
+                .value(student -> assertEquals("Anna", student.getName()));
+    }
+
+    @Test
+    void testShowOneByIdWithFieldsReturnsProjection() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+
+        client.get().uri("/api/v1/student/{id}?fields=name", saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Anna")
+                .jsonPath("$.age").doesNotExist();
+    }
+
+    @Test
+    void testExportStreamsNdjson() {
+        repository.saveAll(List.of(new Student("Anna", 19, "Female"), new Student("Borys", 20, "Male")));
+
+        client.get().uri("/api/v1/student/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Student.class)
+                .hasSize(2);
+    }
+
+    @Test
+    void testMalformedCursorIsBadRequest() {
+        client.get().uri("/api/v1/student/?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    // a blocking admin endpoint runs on the applicationTaskExecutor, its rebuild reads through the reactive driver
+    @Test
+    void testAdminEndpointIsServedInReactiveMode() {
+        repository.saveAll(List.of(new Student("Anna", 19, "Female"), new Student("Borys", 20, "Male")));
+
+        client.post().uri("/api/v1/admin/student/autocomplete/rebuild")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Integer.class)
+                .isEqualTo(2);
+    }
+}
@@ -0,0 +1,192 @@
+package edu.prydatkin.testingprydatkin.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentRestControllerTest
+    @version 1.0.0
+    @since 10/18/2026 - 18.40
+*/
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class StudentRestControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testShowOneByIdAnswersMatchingETagWithNotModified() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+
+        ResponseEntity<String> first = get("/api/v1/student/" + saved.getId(), null);
+        String etag = first.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(etag);
+
+        ResponseEntity<String> second = get("/api/v1/student/" + saved.getId(), etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+    }
+
+    @Test
+    void testShowOneByIdChangesETagAfterUpdate() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+        String etag = get("/api/v1/student/" + saved.getId(), null).getHeaders().getETag();
+
+        restTemplate.put("/api/v1/student/dto", new StudentUpdateRequest(saved.getId(), "Anna", 20, "Female"));
+
+        ResponseEntity<String> afterUpdate = get("/api/v1/student/" + saved.getId(), etag);
+        assertEquals(HttpStatus.OK, afterUpdate.getStatusCode());
+        assertNotEquals(etag, afterUpdate.getHeaders().getETag());
+        assertTrue(afterUpdate.getBody().contains("\"age\":20"));
+    }
+
+    @Test
+    void testShowAllAnswersMatchingETagWithNotModifiedUntilPageChanges() {
+        repository.save(new Student("Anna", 19, "Female"));
+        String etag = get("/api/v1/student/?limit=10", null).getHeaders().getETag();
+        assertNotNull(etag);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, get("/api/v1/student/?limit=10", etag).getStatusCode());
+
+        repository.save(new Student("Borys", 20, "Male"));
+        assertEquals(HttpStatus.OK, get("/api/v1/student/?limit=10", etag).getStatusCode());
+    }
+
+    @Test
+    void testEditWithIfMatchRejectsStaleVersionWithPreconditionFailed() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+        String etag = get("/api/v1/student/" + saved.getId(), null).getHeaders().getETag();
+
+        ResponseEntity<String> first = put(new StudentUpdateRequest(saved.getId(), "Anna", 20, "Female"), etag);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+
+        ResponseEntity<String> stale = put(new StudentUpdateRequest(saved.getId(), "Anna", 30, "Female"), etag);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, stale.getStatusCode());
+        Student current = repository.findById(saved.getId()).orElseThrow();
+        assertEquals(20, current.getAge());
+        assertEquals(1L, current.getVersion());
+        assertEquals("\"1\"", get("/api/v1/student/" + saved.getId(), null).getHeaders().getETag());
+    }
+
+    @Test
+    void testInsertOfStoredIdIsRefusedAndKeepsItsVersion() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+        put(new StudentUpdateRequest(saved.getId(), "Anna", 20, "Female"), null);
+        String etag = get("/api/v1/student/" + saved.getId(), null).getHeaders().getETag();
+
+        Student replay = new Student(saved.getId(), "Anna", 30, "Female");
+        replay.setVersion(0L);
+        ResponseEntity<String> conflict = restTemplate.postForEntity("/api/v1/student/", replay, String.class);
+
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        Student current = repository.findById(saved.getId()).orElseThrow();
+        assertEquals(20, current.getAge());
+        assertEquals(1L, current.getVersion());
+        assertEquals(etag, get("/api/v1/student/" + saved.getId(), null).getHeaders().getETag());
+    }
+
+    @Test
+    void testInsertIgnoresClientVersion() {
+        Student student = new Student("Borys", 20, "Male");
+        student.setVersion(41L);
+
+        ResponseEntity<Student> created = restTemplate.postForEntity("/api/v1/student/", student, Student.class);
+
+        assertEquals(HttpStatus.OK, created.getStatusCode());
+        assertEquals(0L, repository.findById(created.getBody().getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testExportWritesOneJsonObjectPerLine() throws Exception {
+        List<Student> saved = repository.saveAll(List.of(new Student("Anna", 19, "Female"),
+                new Student("Borys", 20, "Male"), new Student("Sam", 22, "Other")));
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/student/export", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+        List<String> lines = response.getBody().lines().toList();
+        assertEquals(saved.size(), lines.size());
+        Set<String> ids = new HashSet<>();
+        for (String line : lines) {
+            JsonNode student = objectMapper.readTree(line);
+            assertTrue(student.isObject());
+            ids.add(student.get("id").asText());
+        }
+        assertEquals(saved.stream().map(Student::getId).collect(Collectors.toSet()), ids);
+    }
+
+    @Test
+    void testSearchBindsFilterParameters() {
+        Student anna = new Student("Anna", 19, "Female");
+        anna.setCreateDate(LocalDate.now().atTime(12, 0));
+        repository.save(anna);
+        repository.save(new Student("Borys", 20, "Male"));
+
+        ResponseEntity<String> response = get("/api/v1/student/search?gender=Female&minAge=18&createdFrom="
+                + LocalDate.now() + "&total=true", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"name\":\"Anna\""));
+        assertFalse(response.getBody().contains("Borys"));
+        assertTrue(response.getBody().contains("\"total\":1"));
+    }
+
+    private ResponseEntity<String> put(StudentUpdateRequest request, String ifMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(ifMatch);
+        return restTemplate.exchange("/api/v1/student/dto", HttpMethod.PUT, new HttpEntity<>(request, headers),
+                String.class);
+    }
+
+    private ResponseEntity<String> get(String uri, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
@@ -0,0 +1,72 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.connection.ServerType;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class MongoReadRouteMetricsTest
+    @version 1.0.0
+    @since 10/19/2026 - 20.50
+*/
+
+class MongoReadRouteMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MongoReadRouteMetrics underTest;
+    private int requestId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        underTest = new MongoReadRouteMetrics(registry);
+    }
+
+    @Test
+    void readsAreCountedByServingMember() {
+        start("{find: 'student', filter: {}, $db: 'test'}", ServerType.REPLICA_SET_SECONDARY);
+        start("{find: 'student', filter: {}, $db: 'test'}", ServerType.REPLICA_SET_SECONDARY);
+        start("{aggregate: 'student', pipeline: [], $db: 'test'}", ServerType.REPLICA_SET_PRIMARY);
+        start("{getMore: 42, collection: 'student', $db: 'test'}", ServerType.REPLICA_SET_SECONDARY);
+
+        assertEquals(2, count("find", "secondary"));
+        assertEquals(1, count("aggregate", "primary"));
+        assertEquals(1, count("getMore", "secondary"));
+    }
+
+    @Test
+    void writesAreNotCounted() {
+        start("{insert: 'student', documents: [], $db: 'test'}", ServerType.REPLICA_SET_PRIMARY);
+        start("{findAndModify: 'student', query: {}, $db: 'test'}", ServerType.REPLICA_SET_PRIMARY);
+
+        assertTrue(registry.find("mongodb.reads").counters().isEmpty());
+    }
+
+    private double count(String command, String server) {
+        return registry.get("mongodb.reads").tag("collection", "student").tag("command", command)
+                .tag("server", server).counter().count();
+    }
+
+    private void start(String json, ServerType serverType) {
+        BsonDocument command = BsonDocument.parse(json);
+        ConnectionDescription connection = new ConnectionDescription(
+                new ConnectionId(new ServerId(new ClusterId(), new ServerAddress())), 21, serverType, 100_000,
+                16_777_216, 48_000_000, List.of());
+        underTest.commandStarted(new CommandStartedEvent(null, 1L, ++requestId, connection, "test",
+                command.getFirstKey(), command));
+    }
+}
@@ -0,0 +1,112 @@
+package edu.prydatkin.testingprydatkin.monitoring;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class SlowQueryProfilerTest
+    @version 1.0.0
+    @since 10/18/2026 - 11.05
+*/
+
+class SlowQueryProfilerTest {
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SlowQueryProfiler underTest;
+    private int requestId;
+
+    @BeforeEach
+    void setUp() {
+        underTest = profiler(1);
+    }
+
+    @Test
+    void fastCommandsAreNotRecorded() {
+        run("{find: 'student', filter: {gender: 'Male'}, $db: 'test'}", 5);
+
+        assertTrue(underTest.report().recent().isEmpty());
+    }
+
+    @Test
+    void slowCommandsAreGroupedByShape() {
+        run("{find: 'student', filter: {gender: 'Male'}, $db: 'test', lsid: {id: 1}}", 150);
+        run("{find: 'student', filter: {gender: 'Female'}, $db: 'test', lsid: {id: 2}}", 300);
+
+        SlowQueryReport report = underTest.report();
+        assertEquals(2, report.recent().size());
+        assertEquals(300, report.recent().get(0).durationMillis());
+        assertEquals(1, report.worst().size());
+        SlowQueryShape shape = report.worst().get(0);
+        assertEquals("student", shape.collection());
+        assertEquals(2, shape.count());
+        assertEquals(300, shape.maxMillis());
+        assertTrue(shape.shape().contains("\"gender\": \"?\""));
+        assertFalse(shape.shape().contains("lsid"));
+    }
+
+    @Test
+    void unsampledSlowCommandsAreGroupedByCollection() {
+        underTest = profiler(0);
+
+        run("{find: 'student', filter: {gender: 'Male'}, $db: 'test'}", 150);
+        run("{find: 'student', filter: {age: 20}, $db: 'test'}", 200);
+
+        SlowQueryReport report = underTest.report();
+        assertEquals(2, report.recent().size());
+        assertEquals(1, report.worst().size());
+        assertEquals("find student", report.worst().get(0).shape());
+        assertEquals(2, report.worst().get(0).count());
+    }
+
+    @Test
+    void recentListIsBoundedByCapacity() {
+        for (int i = 0; i < 25; i++) {
+            run("{find: 'student', filter: {age: " + i + "}, $db: 'test'}", 200);
+        }
+
+        assertEquals(10, underTest.report().recent().size());
+    }
+
+    @Test
+    void resetClearsReport() {
+        run("{count: 'student', query: {age: 18}, $db: 'test'}", 500);
+
+        underTest.reset();
+
+        assertTrue(underTest.report().recent().isEmpty());
+        assertTrue(underTest.report().worst().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private SlowQueryProfiler profiler(double sampleRate) {
+        return new SlowQueryProfiler(new SlowQueryProfilerProperties(true, Duration.ofMillis(100), 10, false,
+                Duration.ofMinutes(5), sampleRate), mock(ObjectProvider.class));
+    }
+
+    private void run(String command, long elapsedMillis) {
+        BsonDocument document = BsonDocument.parse(command);
+        String commandName = document.getFirstKey();
+        requestId++;
+        underTest.commandStarted(new CommandStartedEvent(null, 1, requestId, CONNECTION, "test", commandName,
+                document));
+        underTest.commandSucceeded(new CommandSucceededEvent(null, 1, requestId, CONNECTION, "test", commandName,
+                new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(elapsedMillis)));
+    }
+}
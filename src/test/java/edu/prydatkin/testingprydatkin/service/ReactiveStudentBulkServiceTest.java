@@ -0,0 +1,140 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.config.StudentWriteBehindProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.repository.StudentUpdateHistoryRepository;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.response.BatchItemStatus;
+import edu.prydatkin.testingprydatkin.response.StudentBatchItemResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveStudentBulkServiceTest
+    @version 1.0.0
+    @since 10/20/2026 - 12.40
+*/
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveStudentBulkServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentUpdateHistoryRepository historyRepository;
+
+    @Autowired
+    private StudentBulkService studentBulkService;
+
+    @Autowired
+    private ReactiveStudentBulkService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        historyRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+        historyRepository.deleteAll();
+    }
+
+    @Test
+    void testCreateAllAppliesGenderRuleAndInserts() {
+        repository.save(new Student("Existing", 30, "Other"));
+
+        StepVerifier.create(underTest.createAll(List.of(
+                        new StudentCreateRequest("Anna", 19, "Female"),
+                        new StudentCreateRequest("Olha", 21, "Female"),
+                        new StudentCreateRequest("Sam", 22, "Other"),
+                        new StudentCreateRequest("", 20, "Male"))))
+                .assertNext(results -> assertEquals(List.of(BatchItemStatus.CREATED, BatchItemStatus.REJECTED,
+                                BatchItemStatus.REJECTED, BatchItemStatus.INVALID),
+                        results.stream().map(StudentBatchItemResult::status).toList()))
+                .verifyComplete();
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testCreateAllWithIdsCanBeRepeatedAfterPartialWrite() {
+        String anna = new ObjectId().toHexString();
+        String borys = new ObjectId().toHexString();
+        LocalDateTime now = LocalDateTime.now();
+        // the first attempt stored Anna, then failed before it could report; the duplicate comes back as a bulk error
+        repository.save(Student.builder().id(anna).name("Anna").age(19).gender("Female").createDate(now).build());
+
+        StepVerifier.create(underTest.createAll(List.of(
+                        new StudentCreateRequest("Anna", 19, "Female"),
+                        new StudentCreateRequest("Borys", 20, "Male")), List.of(anna, borys), List.of(now, now)))
+                .assertNext(results -> {
+                    assertEquals(List.of(BatchItemStatus.CREATED, BatchItemStatus.CREATED),
+                            results.stream().map(StudentBatchItemResult::status).toList());
+                    assertEquals(List.of(anna, borys), results.stream().map(StudentBatchItemResult::id).toList());
+                })
+                .verifyComplete();
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testUpdateAllReportsMissingItemsAndArchives() {
+        Student anna = repository.save(new Student("Anna", 19, "Female"));
+
+        StepVerifier.create(underTest.updateAll(List.of(
+                        new StudentUpdateRequest(anna.getId(), "Anna", 20, "Female"),
+                        new StudentUpdateRequest("missing-id", "Ghost", 30, "Other"))))
+                .assertNext(result -> {
+                    assertEquals(1, result.matchedCount());
+                    assertEquals(1, result.items().get(0).matchedCount());
+                    assertEquals("Student not found", result.items().get(1).message());
+                })
+                .verifyComplete();
+        Student updated = repository.findById(anna.getId()).orElseThrow();
+        assertEquals(20, updated.getAge());
+        assertEquals(1, updated.getUpdateDate().size());
+        assertEquals(1, historyRepository.count());
+    }
+
+    @Test
+    void testCreateAllWithEmptyBatchErrors() {
+        StepVerifier.create(underTest.createAll(Collections.emptyList()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void testWriteBehindFlushesThroughReactiveDriver() {
+        StudentWriteBehindService writeBehind = new StudentWriteBehindService(studentBulkService, underTest,
+                new StudentWriteBehindProperties(true, 10, 10, Duration.ofMillis(20), 0, Duration.ofSeconds(10)),
+                new SimpleMeterRegistry());
+        writeBehind.start();
+
+        Student anna = writeBehind.enqueue(new StudentCreateRequest("Anna", 19, "Female"));
+        writeBehind.enqueue(new StudentCreateRequest("Olha", 21, "Female"));
+        writeBehind.stop();
+
+        assertEquals(1, repository.count());
+        assertTrue(repository.existsById(anna.getId()));
+    }
+}
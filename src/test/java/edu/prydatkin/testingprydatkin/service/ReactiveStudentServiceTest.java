@@ -0,0 +1,187 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.repository.StudentUpdateHistoryRepository;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class ReactiveStudentServiceTest
+    @version 1.0.0
+    @since 10/18/2026 - 13.10
+*/
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveStudentServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentUpdateHistoryRepository historyRepository;
+
+    @Autowired
+    private StudentCacheService studentCacheService;
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    private ReactiveStudentService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        historyRepository.deleteAll();
+        studentCacheService.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+        historyRepository.deleteAll();
+        studentCacheService.clear();
+    }
+
+    @Test
+    void testGetAllStreamsEveryStudent() {
+        repository.saveAll(List.of(new Student("Anna", 19, "Female"), new Student("Borys", 20, "Male")));
+
+        StepVerifier.create(underTest.getAll().map(Student::getName).sort())
+                .expectNext("Anna", "Borys")
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetAllHonoursDemand() {
+        repository.saveAll(List.of(new Student("Anna", 19, "Female"), new Student("Borys", 20, "Male")));
+
+        StepVerifier.create(underTest.getAll(), 1)
+                .expectNextCount(1)
+                .thenRequest(1)
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetByIdReturnsSavedStudent() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+
+        StepVerifier.create(underTest.getById(saved.getId()))
+                .assertNext(student -> assertEquals("Anna", student.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetByIdLoadsThroughCacheAndUpdateEvicts() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+
+        StepVerifier.create(underTest.getById(saved.getId())).expectNextCount(1).verifyComplete();
+        assertEquals("Anna", studentCacheService.getIfPresent(saved.getId()).getName());
+
+        StepVerifier.create(underTest.update(new StudentUpdateRequest(saved.getId(), "Hanna", 20, "Female")))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertNull(studentCacheService.getIfPresent(saved.getId()));
+        StepVerifier.create(underTest.getById(saved.getId()))
+                .assertNext(student -> assertEquals("Hanna", student.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetByIdForMissingStudentIsEmpty() {
+        StepVerifier.create(underTest.getById("missing-id")).verifyComplete();
+    }
+
+    @Test
+    void testCreateWithDtoAppliesGenderRule() {
+        repository.save(new Student("Existing", 30, "Other"));
+
+        StepVerifier.create(underTest.create(new StudentCreateRequest("Sam", 22, "Other"))).verifyComplete();
+        StepVerifier.create(underTest.create(new StudentCreateRequest("Anna", 19, "Female")))
+                .assertNext(student -> {
+                    assertNotNull(student.getId());
+                    assertNotNull(student.getCreateDate());
+                    assertTrue(student.getUpdateDate().isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testUpdateWithDtoAppendsUpdateDateAndArchives() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+
+        StepVerifier.create(underTest.update(new StudentUpdateRequest(saved.getId(), "Anna", 20, "Female")))
+                .assertNext(student -> {
+                    assertEquals(20, student.getAge());
+                    assertEquals(1, student.getUpdateDate().size());
+                })
+                .verifyComplete();
+        StepVerifier.create(underTest.getHistory(saved.getId(), null, null))
+                .assertNext(history -> assertEquals(1, history.size()))
+                .verifyComplete();
+        assertEquals(1, historyRepository.count());
+    }
+
+    @Test
+    void testUpdateWithDtoForMissingStudentIsEmpty() {
+        StepVerifier.create(underTest.update(new StudentUpdateRequest("missing-id", "Ghost", 30, "Other")))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetPageUsesSameCursorAsBlockingService() {
+        repository.saveAll(List.of(new Student("Anna", 19, "Female"), new Student("Borys", 20, "Male"),
+                new Student("Clara", 21, "Female")));
+
+        StepVerifier.create(underTest.getPage(new StudentPageRequest(null, 2, null)))
+                .assertNext(page -> {
+                    assertEquals(2, page.items().size());
+                    assertNotNull(page.nextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetPageWithMalformedCursorErrors() {
+        StepVerifier.create(underTest.getPage(new StudentPageRequest("not-a-cursor", 2, null)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void testDeleteRemovesStudentAndHistory() {
+        Student saved = repository.save(new Student("Anna", 19, "Female"));
+        underTest.update(new StudentUpdateRequest(saved.getId(), "Anna", 20, "Female")).block();
+
+        StepVerifier.create(underTest.deleteById(saved.getId())).verifyComplete();
+        assertFalse(repository.existsById(saved.getId()));
+        assertEquals(0, historyRepository.count());
+    }
+
+    @Test
+    void testNameIndexLoadsWithoutBlockingTemplate() {
+        repository.saveAll(List.of(new Student("Anna", 19, "Female"), new Student("Borys", 20, "Male")));
+        StudentNameIndexService index = new StudentNameIndexService(null, reactiveMongoTemplate);
+
+        assertEquals(2, index.rebuild());
+        assertEquals("Anna", index.suggest("an", null).get(0).name());
+    }
+}
@@ -0,0 +1,146 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.response.BatchItemStatus;
+import edu.prydatkin.testingprydatkin.response.StudentBatchItemResult;
+import edu.prydatkin.testingprydatkin.response.StudentBatchUpdateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.bson.types.ObjectId;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentBulkServiceTest
+    @version 1.0.0
+    @since 10/17/2026 - 20.30
+*/
+
+@SpringBootTest
+class StudentBulkServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentBulkService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testCreateAllInsertsEveryValidItem() {
+        List<StudentBatchItemResult> results = underTest.createAll(List.of(
+                new StudentCreateRequest("Anna", 19, "Female"),
+                new StudentCreateRequest("Borys", 20, "Male")));
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(result -> result.status() == BatchItemStatus.CREATED));
+        Student anna = repository.findById(results.get(0).id()).orElseThrow();
+        assertEquals("Anna", anna.getName());
+        assertNotNull(anna.getCreateDate());
+        assertTrue(anna.getUpdateDate().isEmpty());
+    }
+
+    @Test
+    void testCreateAllAppliesGenderRuleOncePerBatch() {
+        repository.save(new Student("Existing", 30, "Other"));
+
+        List<StudentBatchItemResult> results = underTest.createAll(List.of(
+                new StudentCreateRequest("Anna", 19, "Female"),
+                new StudentCreateRequest("Olha", 21, "Female"),
+                new StudentCreateRequest("Sam", 22, "Other")));
+
+        assertEquals(BatchItemStatus.CREATED, results.get(0).status());
+        assertEquals(BatchItemStatus.REJECTED, results.get(1).status());
+        assertEquals(BatchItemStatus.REJECTED, results.get(2).status());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testCreateAllWithIdsCanBeRepeatedAfterPartialWrite() {
+        String anna = new ObjectId().toHexString();
+        String borys = new ObjectId().toHexString();
+        LocalDateTime now = LocalDateTime.now();
+        // the first attempt stored Anna, then failed before it could report
+        repository.save(Student.builder().id(anna).name("Anna").age(19).gender("Female").createDate(now).build());
+
+        List<StudentBatchItemResult> results = underTest.createAll(List.of(
+                new StudentCreateRequest("Anna", 19, "Female"),
+                new StudentCreateRequest("Borys", 20, "Male")), List.of(anna, borys), List.of(now, now));
+
+        assertEquals(List.of(BatchItemStatus.CREATED, BatchItemStatus.CREATED),
+                results.stream().map(StudentBatchItemResult::status).toList());
+        assertEquals(List.of(anna, borys), results.stream().map(StudentBatchItemResult::id).toList());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testCreateAllReportsInvalidItems() {
+        List<StudentBatchItemResult> results = underTest.createAll(List.of(
+                new StudentCreateRequest("", 19, "Female"),
+                new StudentCreateRequest("Borys", -1, "Male")));
+
+        assertEquals(BatchItemStatus.INVALID, results.get(0).status());
+        assertTrue(results.get(0).message().contains("name"));
+        assertEquals(BatchItemStatus.INVALID, results.get(1).status());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testUpdateAllChangesFieldsAndAppendsUpdateDate() {
+        Student anna = repository.save(new Student("Anna", 19, "Female"));
+        Student borys = repository.save(new Student("Borys", 20, "Male"));
+
+        StudentBatchUpdateResult result = underTest.updateAll(List.of(
+                new StudentUpdateRequest(anna.getId(), "Anna", 20, "Female"),
+                new StudentUpdateRequest(borys.getId(), "Borys", 21, "Male")));
+
+        assertEquals(2, result.matchedCount());
+        assertEquals(2, result.modifiedCount());
+        Student updated = repository.findById(anna.getId()).orElseThrow();
+        assertEquals(20, updated.getAge());
+        assertEquals(1, updated.getUpdateDate().size());
+    }
+
+    @Test
+    void testUpdateAllReportsMissingAndDuplicateItems() {
+        Student anna = repository.save(new Student("Anna", 19, "Female"));
+
+        StudentBatchUpdateResult result = underTest.updateAll(List.of(
+                new StudentUpdateRequest(anna.getId(), "Anna", 20, "Female"),
+                new StudentUpdateRequest("missing-id", "Ghost", 30, "Other"),
+                new StudentUpdateRequest(anna.getId(), "Anna", 21, "Female")));
+
+        assertEquals(1, result.matchedCount());
+        assertEquals(1, result.items().get(0).matchedCount());
+        assertEquals(0, result.items().get(1).matchedCount());
+        assertEquals("Student not found", result.items().get(1).message());
+        assertEquals(0, result.items().get(2).matchedCount());
+        assertEquals(20, repository.findById(anna.getId()).orElseThrow().getAge());
+    }
+
+    @Test
+    void testCreateAllWithEmptyBatchThrows() {
+        assertThrows(IllegalArgumentException.class, () -> underTest.createAll(Collections.emptyList()));
+    }
+}
@@ -0,0 +1,130 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentChangeStreamServiceTest
+    @version 1.0.0
+    @since 10/19/2026 - 18.00
+*/
+
+// the test server has no change streams, so events are decoded from their wire format and applied directly
+@SpringBootTest(properties = "student.change-stream.enabled=true")
+class StudentChangeStreamServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentCacheService studentCacheService;
+
+    @Autowired
+    private StudentNameIndexService studentNameIndexService;
+
+    @Autowired
+    private StudentChangeStreamService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        studentCacheService.clear();
+        studentNameIndexService.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+        studentCacheService.clear();
+        studentNameIndexService.clear();
+    }
+
+    @Test
+    void testUpdateFromAnotherNodeEvictsCachedStudentAndRenames() {
+        String id = new ObjectId().toHexString();
+        studentCacheService.get(id, key -> new Student(key, "Anna", 19, "Female"));
+        studentNameIndexService.index(id, "Anna");
+
+        underTest.apply(event("""
+                {"_id": {"_data": "01"}, "operationType": "update",
+                 "documentKey": {"_id": {"$oid": "%s"}},
+                 "updateDescription": {"updatedFields": {"name": "Hanna", "version": 2}, "removedFields": []}}
+                """.formatted(id)));
+
+        assertNull(studentCacheService.getIfPresent(id));
+        assertTrue(studentNameIndexService.suggest("anna", null).isEmpty());
+        assertEquals(id, studentNameIndexService.suggest("hanna", null).get(0).id());
+    }
+
+    @Test
+    void testInsertFromAnotherNodeIsIndexed() {
+        underTest.apply(event("""
+                {"_id": {"_data": "02"}, "operationType": "insert",
+                 "documentKey": {"_id": "7"}, "fullDocument": {"_id": "7", "name": "Olha"}}
+                """));
+
+        assertEquals("7", studentNameIndexService.suggest("ol", null).get(0).id());
+    }
+
+    @Test
+    void testDeleteFromAnotherNodeEvictsAndUnindexes() {
+        studentCacheService.get("8", key -> new Student(key, "Borys", 20, "Male"));
+        studentNameIndexService.index("8", "Borys");
+
+        underTest.apply(event("""
+                {"_id": {"_data": "03"}, "operationType": "delete", "documentKey": {"_id": "8"}}
+                """));
+
+        assertNull(studentCacheService.getIfPresent("8"));
+        assertTrue(studentNameIndexService.suggest("borys", null).isEmpty());
+    }
+
+    @Test
+    void testDropRebuildsLocalCaches() {
+        Student stored = repository.save(new Student("Sam", 22, "Other"));
+        studentCacheService.get("9", key -> new Student(key, "Ghost", 30, "Other"));
+        studentNameIndexService.index("9", "Ghost");
+
+        underTest.apply(event("""
+                {"_id": {"_data": "04"}, "operationType": "drop"}
+                """));
+
+        assertNull(studentCacheService.getIfPresent("9"));
+        assertTrue(studentNameIndexService.suggest("ghost", null).isEmpty());
+        assertEquals(stored.getId(), studentNameIndexService.suggest("sam", null).get(0).id());
+    }
+
+    @Test
+    void testListenerStopsQuietlyWithoutChangeStreams() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (underTest.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertFalse(underTest.isRunning());
+        assertFalse(underTest.isConnected());
+    }
+
+    private ChangeStreamDocument<Document> event(String json) {
+        return ChangeStreamDocument.createCodec(Document.class, MongoClientSettings.getDefaultCodecRegistry())
+                .decode(new BsonDocumentReader(BsonDocument.parse(json)), DecoderContext.builder().build());
+    }
+}
@@ -0,0 +1,134 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.config.UpdateHistoryProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.repository.StudentUpdateHistoryRepository;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentHistoryServiceTest
+    @version 1.0.0
+    @since 10/17/2026 - 21.55
+*/
+
+@SpringBootTest(properties = "student.update-history.embedded-limit=3")
+class StudentHistoryServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentUpdateHistoryRepository historyRepository;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentHistoryService underTest;
+
+    @Autowired
+    private UpdateHistoryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        historyRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+        historyRepository.deleteAll();
+    }
+
+    @Test
+    void testUpdatesKeepOnlyLatestTimestampsEmbedded() {
+        Student student = studentService.create(new Student("Bounded", 20, "Male"));
+        for (int i = 0; i < 5; i++) {
+            studentService.update(new StudentUpdateRequest(student.getId(), "Bounded", 20 + i, "Male"));
+        }
+
+        Student stored = repository.findById(student.getId()).orElseThrow();
+        assertEquals(properties.embeddedLimit(), stored.getUpdateDate().size());
+        assertEquals(5, underTest.getHistory(student.getId(), null, null).size());
+    }
+
+    @Test
+    void testMigrateOversizedTrimsAndArchives() {
+        List<LocalDateTime> updates = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        for (int i = 0; i < 10; i++) {
+            updates.add(start.plusHours(i * 12L));
+        }
+        Student legacy = repository.save(Student.builder().name("Legacy").age(30).gender("Female")
+                .updateDate(updates).build());
+
+        long migrated = underTest.migrateOversized(100);
+
+        assertEquals(1, migrated);
+        Student stored = repository.findById(legacy.getId()).orElseThrow();
+        assertEquals(updates.subList(7, 10), stored.getUpdateDate());
+        assertEquals(updates, underTest.getHistory(legacy.getId(), null, null));
+        assertEquals(0, underTest.migrateOversized(100));
+    }
+
+    @Test
+    void testMigrateOversizedArchivesListsWithinTheLimit() {
+        List<LocalDateTime> legacy = List.of(LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 2, 10, 0));
+        Student student = repository.save(Student.builder().name("Short").age(20).gender("Male")
+                .updateDate(new ArrayList<>(legacy)).build());
+
+        assertEquals(0, underTest.migrateOversized(100));
+        for (int i = 0; i < properties.embeddedLimit(); i++) {
+            studentService.update(new StudentUpdateRequest(student.getId(), "Short", 21 + i, "Male"));
+        }
+
+        List<LocalDateTime> history = underTest.getHistory(student.getId(), null, null);
+        assertEquals(legacy.size() + properties.embeddedLimit(), history.size());
+        assertTrue(history.containsAll(legacy));
+    }
+
+    @Test
+    void testMigrateOversizedVisitsEveryStudentAcrossBatches() {
+        List<LocalDateTime> updates = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            updates.add(LocalDateTime.of(2025, 1, 1, 10, i));
+        }
+        // generated ObjectIds and plain string ids, which sort in separate BSON type brackets
+        List<Student> students = repository.saveAll(List.of(
+                Student.builder().name("A").age(20).gender("Male").updateDate(updates).build(),
+                Student.builder().id("b").name("B").age(20).gender("Male").updateDate(updates).build(),
+                Student.builder().name("C").age(20).gender("Male").updateDate(updates).build(),
+                Student.builder().id("d").name("D").age(20).gender("Male").updateDate(updates).build()));
+
+        assertEquals(4, underTest.migrateOversized(1));
+        for (Student student : students) {
+            assertEquals(properties.embeddedLimit(),
+                    repository.findById(student.getId()).orElseThrow().getUpdateDate().size());
+        }
+    }
+
+    @Test
+    void testDeleteRemovesHistory() {
+        Student student = studentService.create(new Student("Gone", 20, "Male"));
+        studentService.update(new StudentUpdateRequest(student.getId(), "Gone", 21, "Male"));
+
+        studentService.deleteById(student.getId());
+
+        assertEquals(0, historyRepository.count());
+    }
+}
@@ -0,0 +1,64 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.response.StudentIndexBuild;
+import edu.prydatkin.testingprydatkin.response.StudentIndexUsage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentIndexServiceTest
+    @version 1.0.0
+    @since 10/18/2026 - 11.45
+*/
+
+@SpringBootTest
+class StudentIndexServiceTest {
+
+    @Autowired
+    private StudentIndexService underTest;
+
+    @Test
+    void testEnsureIndexesCreatesDeclaredIndexes() {
+        List<String> names = underTest.ensureIndexes();
+
+        assertTrue(names.contains("student.gender_age"));
+        assertTrue(names.contains("student.age_id"));
+        assertTrue(names.contains("student.name_id"));
+        assertTrue(names.contains("student.createDate_id"));
+        assertTrue(names.contains("student_update_history.student_bucket"));
+    }
+
+    @Test
+    void testEnsureIndexesIsIdempotent() {
+        assertEquals(underTest.ensureIndexes(), underTest.ensureIndexes());
+    }
+
+    @Test
+    void testBuildReportsEveryEnsuredIndex() {
+        List<String> names = underTest.ensureIndexes();
+
+        StudentIndexBuild build = underTest.getBuild();
+        assertEquals(StudentIndexBuild.DONE, build.state());
+        assertEquals(names, build.ensured());
+        assertEquals(names.size(), build.declared());
+        assertNotNull(build.finishedAt());
+    }
+
+    @Test
+    void testIndexUsageListsEveryIndex() {
+        underTest.ensureIndexes();
+
+        List<String> names = underTest.getIndexUsage().stream()
+                .filter(usage -> usage.collection().equals("student"))
+                .map(StudentIndexUsage::name)
+                .toList();
+        assertTrue(names.containsAll(List.of("_id_", "gender_age", "age_id", "name_id", "createDate_id")));
+    }
+}
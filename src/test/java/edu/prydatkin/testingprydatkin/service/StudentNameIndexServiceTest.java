@@ -0,0 +1,158 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import edu.prydatkin.testingprydatkin.response.StudentNameSuggestion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentNameIndexServiceTest
+    @version 1.0.0
+    @since 10/18/2026 - 22.30
+*/
+
+@SpringBootTest
+class StudentNameIndexServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentNameIndexService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        underTest.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+        underTest.clear();
+    }
+
+    @Test
+    void testSuggestIgnoresCaseAndDiacritics() {
+        studentService.create(new Student("1", "Ánna", 19, "Female"));
+        studentService.create(new Student("2", "anastasiia", 20, "Female"));
+        studentService.create(new Student("3", "Borys", 21, "Male"));
+
+        assertEquals(List.of("anastasiia", "Ánna"), names(underTest.suggest("AN", null)));
+        assertEquals(List.of("Ánna"), names(underTest.suggest("ánn", null)));
+        assertEquals(List.of("anastasiia"), names(underTest.suggest("an", 1)));
+        assertTrue(underTest.suggest("x", null).isEmpty());
+    }
+
+    @Test
+    void testWritePathsKeepIndexCurrent() {
+        Student created = studentService.create(new StudentCreateRequest("Olha", 19, "Female"));
+        assertEquals(List.of("Olha"), names(underTest.suggest("ol", null)));
+
+        studentService.update(new StudentUpdateRequest(created.getId(), "Oksana", 19, "Female"));
+        assertEquals(List.of("Oksana"), names(underTest.suggest("o", null)));
+
+        studentService.deleteById(created.getId());
+        assertTrue(underTest.suggest("o", null).isEmpty());
+    }
+
+    @Test
+    void testRebuildLoadsStoredNames() {
+        repository.saveAll(List.of(new Student("Iryna", 19, "Female"), new Student("Ivan", 20, "Male")));
+
+        assertEquals(2, underTest.rebuild());
+        assertEquals(List.of("Iryna", "Ivan"), names(underTest.suggest("i", null)));
+    }
+
+    @Test
+    void testRebuildDropsNamesNoLongerStored() {
+        underTest.index("gone", "Ghost");
+        repository.save(new Student("Iryna", 19, "Female"));
+
+        assertEquals(1, underTest.rebuild());
+        assertTrue(underTest.suggest("gh", null).isEmpty());
+        assertEquals(List.of("Iryna"), names(underTest.suggest("i", null)));
+    }
+
+    @Test
+    void testWritesDuringRebuildWinOverLoadedNames() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        StudentNameIndexService index = new StudentNameIndexService(mongoTemplate);
+        index.index("1", "Anna");
+        index.index("2", "Borys");
+        // the load read all three before this node deleted 2 and renamed 3
+        when(mongoTemplate.stream(any(Query.class), eq(Student.class))).thenAnswer(invocation -> {
+            index.remove("2");
+            index.index("3", "Sofiia");
+            assertEquals(List.of("Anna"), names(index.suggest("a", null)));
+            return Stream.of(new Student("1", "Anna", 19, "Female"), new Student("2", "Borys", 20, "Male"),
+                    new Student("3", "Sam", 21, "Other"));
+        });
+
+        assertEquals(2, index.rebuild());
+        assertTrue(index.suggest("b", null).isEmpty());
+        assertTrue(index.suggest("sa", null).isEmpty());
+        assertEquals(List.of("Sofiia"), names(index.suggest("so", null)));
+    }
+
+    @Test
+    void testStartupLoadRunsInTheBackground() throws InterruptedException {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        StudentNameIndexService index = new StudentNameIndexService(mongoTemplate);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mongoTemplate.stream(any(Query.class), eq(Student.class))).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Stream.of(new Student("1", "Anna", 19, "Female"));
+        });
+
+        index.loadOnStartup();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        index.index("2", "Andrii");
+
+        assertFalse(index.isLoaded());
+        assertEquals(List.of("Andrii"), names(index.suggest("an", null)));
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!index.isLoaded() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(index.isLoaded());
+        assertEquals(List.of("Andrii", "Anna"), names(index.suggest("an", null)));
+    }
+
+    @Test
+    void testSuggestWithTooLargeLimitThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> underTest.suggest("a", StudentNameIndexService.MAX_LIMIT + 1));
+    }
+
+    private List<String> names(List<StudentNameSuggestion> suggestions) {
+        return suggestions.stream().map(StudentNameSuggestion::name).toList();
+    }
+}
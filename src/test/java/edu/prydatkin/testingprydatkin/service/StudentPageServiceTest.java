@@ -0,0 +1,98 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.response.StudentPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentPageServiceTest
+    @version 1.0.0
+    @since 10/17/2026 - 19.40
+*/
+
+@SpringBootTest
+class StudentPageServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentPageService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        LocalDateTime base = LocalDateTime.of(2025, 5, 1, 12, 0);
+        List<Student> students = new ArrayList<>();
+        students.add(Student.builder().id("1").name("Plain").age(18).gender("Male").build());
+        students.add(Student.builder().name("Anna").age(19).gender("Female").createDate(base).build());
+        students.add(Student.builder().name("Boris").age(20).gender("Male").createDate(base).build());
+        students.add(Student.builder().name("Clara").age(21).gender("Female").createDate(base.plusDays(1)).build());
+        students.add(Student.builder().name("Denys").age(22).gender("Male").createDate(base.plusDays(2)).build());
+        repository.saveAll(students);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testPagesByIdVisitEveryStudentOnce() {
+        List<String> names = collectNames(null);
+        assertEquals(5, names.size());
+        assertEquals(5, names.stream().distinct().count());
+    }
+
+    @Test
+    void testPagesByCreateDateDescKeepOrder() {
+        List<String> names = collectNames("createDate,desc");
+        assertEquals(List.of("Denys", "Clara"), names.subList(0, 2));
+        assertEquals("Plain", names.get(4));
+    }
+
+    @Test
+    void testLastPageHasNoCursor() {
+        StudentPage<Student> page = underTest.getPage(new StudentPageRequest(null, 10, null));
+        assertEquals(5, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testMalformedCursorThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> underTest.getPage(new StudentPageRequest("not-a-cursor", 2, null)));
+    }
+
+    @Test
+    void testLimitAboveMaximumThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> underTest.getPage(new StudentPageRequest(null, StudentPageService.MAX_LIMIT + 1, null)));
+    }
+
+    private List<String> collectNames(String sort) {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            StudentPage<Student> page = underTest.getPage(new StudentPageRequest(cursor, 2, sort));
+            assertTrue(page.items().size() <= 2);
+            page.items().forEach(student -> names.add(student.getName()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return names;
+    }
+}
@@ -0,0 +1,95 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.request.StudentPageRequest;
+import edu.prydatkin.testingprydatkin.response.StudentPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentProjectionServiceTest
+    @version 1.0.0
+    @since 10/18/2026 - 17.30
+*/
+
+@SpringBootTest
+class StudentProjectionServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentProjectionService underTest;
+
+    private Student anna;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        LocalDateTime created = LocalDateTime.of(2025, 5, 1, 12, 0);
+        anna = repository.save(Student.builder().name("Anna").age(19).gender("Female").createDate(created)
+                .updateDate(new ArrayList<>(List.of(created.plusDays(1), created.plusDays(2)))).build());
+        repository.save(Student.builder().name("Borys").age(20).gender("Male").createDate(created.plusDays(1))
+                .build());
+        repository.save(Student.builder().name("Clara").age(21).gender("Female").createDate(created.plusDays(2))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testGetByIdReturnsOnlySelectedFields() {
+        Map<String, Object> student = underTest.getById(anna.getId(), "name");
+
+        assertEquals(List.of("id", "name"), List.copyOf(student.keySet()));
+        assertEquals(anna.getId(), student.get("id"));
+        assertEquals("Anna", student.get("name"));
+    }
+
+    @Test
+    void testGetByIdConvertsDatesLikeTheEntity() {
+        Map<String, Object> student = underTest.getById(anna.getId(), "createDate,updateDate");
+
+        assertEquals(anna.getCreateDate(), student.get("createDate"));
+        assertEquals(anna.getUpdateDate(), student.get("updateDate"));
+    }
+
+    @Test
+    void testGetByIdForMissingStudentReturnsNull() {
+        assertNull(underTest.getById("missing-id", "name"));
+    }
+
+    @Test
+    void testPagesKeepCursorWithoutSelectedCreateDate() {
+        StudentPage<Map<String, Object>> first = underTest.getPage(
+                new StudentPageRequest(null, 2, "createDate,desc"), "name");
+        StudentPage<Map<String, Object>> second = underTest.getPage(
+                new StudentPageRequest(first.nextCursor(), 2, null), "name");
+
+        assertEquals(List.of("Clara", "Borys"), first.items().stream().map(item -> item.get("name")).toList());
+        assertEquals(List.of("Anna"), second.items().stream().map(item -> item.get("name")).toList());
+        assertFalse(first.items().get(0).containsKey("createDate"));
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void testUnknownFieldThrows() {
+        assertThrows(IllegalArgumentException.class, () -> underTest.getById(anna.getId(), "name,password"));
+    }
+}
@@ -0,0 +1,161 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.request.StudentSearchRequest;
+import edu.prydatkin.testingprydatkin.response.StudentSearchResult;
+import com.mongodb.MongoCommandException;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentSearchServiceTest
+    @version 1.0.0
+    @since 10/18/2026 - 21.30
+*/
+
+@SpringBootTest
+class StudentSearchServiceTest {
+    private static final Pattern SORT_STAGE = Pattern.compile("\"stage\"\\s*:\\s*\"SORT\"");
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private StudentIndexService studentIndexService;
+
+    @Autowired
+    private StudentSearchService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        repository.saveAll(List.of(
+                student("Olha", 21, "Female", LocalDate.now()),
+                student("Anna", 18, "Female", LocalDate.now().minusDays(3)),
+                student("Iryna", 25, "Female", LocalDate.now()),
+                student("Borys", 19, "Male", LocalDate.now()),
+                student("An.drii", 20, "Male", LocalDate.now())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testSearchFiltersByGenderAndAgeRangeSortedByName() {
+        StudentSearchResult result = underTest.search(
+                new StudentSearchRequest("Female", 18, 21, null, null, null, "name", null, null, false));
+
+        assertEquals(List.of("Anna", "Olha"), names(result));
+        assertFalse(result.hasNext());
+        assertNull(result.total());
+    }
+
+    @Test
+    void testSearchPagesWithTotal() {
+        StudentSearchResult first = underTest.search(
+                new StudentSearchRequest(null, null, null, null, null, null, "age,desc", 0, 2, true));
+        StudentSearchResult second = underTest.search(
+                new StudentSearchRequest(null, null, null, null, null, null, "age,desc", 1, 2, true));
+
+        assertEquals(List.of("Iryna", "Olha"), names(first));
+        assertTrue(first.hasNext());
+        assertEquals(5, first.total());
+        assertEquals(List.of("An.drii", "Borys"), names(second));
+    }
+
+    @Test
+    void testSearchTreatsNamePrefixLiterally() {
+        StudentSearchResult result = underTest.search(
+                new StudentSearchRequest(null, null, null, "An.", null, null, null, null, null, false));
+
+        assertEquals(List.of("An.drii"), names(result));
+    }
+
+    @Test
+    void testSearchFiltersByCreateDateRange() {
+        StudentSearchResult result = underTest.search(new StudentSearchRequest(null, null, null, null,
+                LocalDate.now().minusDays(5), LocalDate.now().minusDays(1), null, null, null, true));
+
+        assertEquals(List.of("Anna"), names(result));
+        assertEquals(1, result.total());
+    }
+
+    @Test
+    void testSearchWithUnsupportedSortThrows() {
+        assertThrows(IllegalArgumentException.class, () -> underTest.search(
+                new StudentSearchRequest(null, null, null, null, null, null, "gender", null, null, false)));
+    }
+
+    @Test
+    void testSortTieBreakerFollowsSortDirection() {
+        assertEquals(new Document("name", 1).append("_id", 1), sortOf("name"));
+        assertEquals(new Document("age", -1).append("_id", -1), sortOf("age,desc"));
+        assertEquals(new Document("_id", -1), sortOf("id,desc"));
+    }
+
+    // needs a server that can explain, the in-process stand-in used by the build cannot
+    @Test
+    void testNameAndAgeSortsAreReadFromAnIndex() {
+        studentIndexService.ensureIndexes();
+        for (String sort : List.of("name", "name,desc", "age", "age,desc")) {
+            String plan = winningPlan(underTest.searchQuery(
+                    new StudentSearchRequest(null, null, null, null, null, null, sort, null, null, false)));
+
+            assertTrue(plan.contains("IXSCAN"), sort + " is not read from an index: " + plan);
+            assertFalse(SORT_STAGE.matcher(plan).find(), sort + " is sorted in memory: " + plan);
+        }
+    }
+
+    private Document sortOf(String sort) {
+        return underTest.searchQuery(
+                new StudentSearchRequest(null, null, null, null, null, null, sort, null, null, false)).getSortObject();
+    }
+
+    private String winningPlan(Query query) {
+        Document explained;
+        try {
+            explained = mongoTemplate.getDb().runCommand(new Document("explain",
+                    new Document("find", mongoTemplate.getCollectionName(Student.class))
+                            .append("filter", query.getQueryObject())
+                            .append("sort", query.getSortObject())
+                            .append("skip", query.getSkip())
+                            .append("limit", query.getLimit()))
+                    .append("verbosity", "queryPlanner"));
+        } catch (MongoCommandException e) {
+            explained = null;
+        }
+        assumeTrue(explained != null && explained.containsKey("queryPlanner"), "server cannot explain");
+        return explained.get("queryPlanner", Document.class).toJson();
+    }
+
+    private List<String> names(StudentSearchResult result) {
+        return result.items().stream().map(Student::getName).toList();
+    }
+
+    private Student student(String name, int age, String gender, LocalDate createDate) {
+        Student student = new Student(name, age, gender);
+        student.setCreateDate(createDate.atTime(12, 0));
+        return student;
+    }
+}
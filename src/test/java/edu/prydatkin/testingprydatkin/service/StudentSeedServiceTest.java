@@ -0,0 +1,74 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentSeedServiceTest
+    @version 1.0.0
+    @since 10/18/2026 - 23.20
+*/
+
+// the "seed" profile is not active here, so the service is created by hand and nothing seeds in the background
+@SpringBootTest
+class StudentSeedServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private StudentNameIndexService studentNameIndexService;
+
+    private StudentSeedService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        underTest = new StudentSeedService(mongoTemplate, studentNameIndexService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testSeedInsertsThreeStudents() {
+        assertEquals(3, underTest.seed());
+        assertEquals(3, repository.count());
+        assertFalse(studentNameIndexService.suggest("victoria", null).isEmpty());
+    }
+
+    @Test
+    void testSeedIsIdempotent() {
+        underTest.seed();
+
+        assertEquals(0, underTest.seed());
+        assertEquals(3, repository.count());
+    }
+
+    @Test
+    void testSeedKeepsExistingData() {
+        Student other = repository.save(new Student("Existing", 30, "Other"));
+        repository.save(new Student("2", "Renamed", 18, "Female"));
+
+        assertEquals(2, underTest.seed());
+
+        assertEquals(4, repository.count());
+        assertTrue(repository.existsById(other.getId()));
+        assertEquals("Renamed", repository.findById("2").orElseThrow().getName());
+    }
+}
@@ -9,10 +9,14 @@ package edu.prydatkin.testingprydatkin.service;
     @since 5/16/2025 - 12.12
 */
 
+import edu.prydatkin.testingprydatkin.config.StudentCacheProperties;
+import edu.prydatkin.testingprydatkin.config.UpdateHistoryProperties;
 import edu.prydatkin.testingprydatkin.model.Student;
 import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.repository.StudentUpdateHistoryRepository;
 import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
 import edu.prydatkin.testingprydatkin.request.StudentUpdateRequest;
+import org.bson.Document;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +26,13 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,18 +50,33 @@ class StudentServiceMockTest {
     @Mock
     private StudentRepository mockRepository;
 
+    @Mock
+    private MongoTemplate mockTemplate;
+
+    @Mock
+    private StudentUpdateHistoryRepository mockHistoryRepository;
+
     private StudentService underTest;
 
     @Captor
     private ArgumentCaptor<Student> argumentCaptor;
 
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+
     private StudentCreateRequest request;
     private Student student;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        underTest = new StudentService(mockRepository);
+        StudentCacheService cacheService = new StudentCacheService(
+                new StudentCacheProperties(true, 100, Duration.ofMinutes(1)));
+        underTest = new StudentService(mockRepository, mockTemplate,
+                new StudentHistoryService(mockTemplate, mockHistoryRepository, new UpdateHistoryProperties(20, true),
+                        cacheService),
+                cacheService, new StudentETagService(mockTemplate, new StudentPageService(mockTemplate), cacheService),
+                new StudentNameIndexService(mockTemplate));
     }
 
     @AfterEach
@@ -121,28 +146,33 @@ class StudentServiceMockTest {
     @Test
     void updateStudentWithDto_WhenStudentExists_UpdatesUpdateDate() {
         // given
-        Student existing = Student.builder()
+        Student updatedStudent = Student.builder()
                 .id("123")
-                .name("Old Name")
-                .age(20)
+                .name("New Name")
+                .age(21)
                 .gender("Male")
                 .createDate(LocalDateTime.now().minusDays(1))
-                .updateDate(new ArrayList<>())
+                .updateDate(new ArrayList<>(List.of(LocalDateTime.now())))
                 .build();
 
         StudentUpdateRequest updateRequest = new StudentUpdateRequest("123", "New Name", 21, "Male");
 
-        when(mockRepository.findById("123")).thenReturn(Optional.of(existing));
+        when(mockTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Student.class))).thenReturn(updatedStudent);
 
         // when
-        underTest.update(updateRequest);
+        Student result = underTest.update(updateRequest);
 
         // then
-        verify(mockRepository).save(argumentCaptor.capture());
-        Student updated = argumentCaptor.getValue();
-        assertEquals("New Name", updated.getName());
-        assertEquals(21, updated.getAge());
-        assertEquals(1, updated.getUpdateDate().size());
+        verify(mockTemplate).findAndModify(any(Query.class), updateCaptor.capture(), any(FindAndModifyOptions.class),
+                eq(Student.class));
+        Document update = updateCaptor.getValue().getUpdateObject();
+        assertEquals("New Name", update.get("$set", Document.class).get("name"));
+        assertEquals(21, update.get("$set", Document.class).get("age"));
+        assertTrue(update.get("$push", Document.class).containsKey("updateDate"));
+        assertEquals(1, result.getUpdateDate().size());
+        verify(mockRepository, never()).findById(any());
+        verify(mockRepository, never()).save(any());
     }
 
     @DisplayName("Get all returns students")
@@ -187,22 +217,22 @@ class StudentServiceMockTest {
 
     @DisplayName("Create student with full object calls repository")
     @Test
-    void createStudentObject_CallsSave() {
+    void createStudentObject_CallsInsert() {
         Student student = new Student("Dan", 22, "Male");
 
         underTest.create(student);
 
-        verify(mockRepository).save(student);
+        verify(mockRepository).insert(student);
     }
 
-    @DisplayName("Update student with full object calls repository")
+    @DisplayName("Update student without id creates it")
     @Test
-    void updateStudentObject_CallsSave() {
+    void updateStudentObject_WithoutId_CallsInsert() {
         Student student = new Student("Dan", 22, "Male");
 
         underTest.update(student);
 
-        verify(mockRepository).save(student);
+        verify(mockRepository).insert(student);
     }
 
     @DisplayName("Delete by ID calls repository delete")
@@ -273,34 +303,58 @@ class StudentServiceMockTest {
 
     @DisplayName("Create student with existing Student object")
     @Test
-    void create_WithStudentObject_ShouldSaveStudent() {
+    void create_WithStudentObject_ShouldInsertStudent() {
         Student student = new Student("1", "Alex", 20, "Male");
+        student.setVersion(7L);
 
         underTest.create(student);
 
-        verify(mockRepository).save(student);
+        verify(mockRepository).insert(student);
+        assertEquals(0L, student.getVersion());
     }
 
     @DisplayName("Update student with Student object")
     @Test
-    void update_WithStudentObject_ShouldSaveStudent() {
+    void update_WithStudentObject_ShouldUpsertAndIncrementVersion() {
         Student student = new Student("1", "Alex", 21, "Male");
 
         underTest.update(student);
 
-        verify(mockRepository).save(student);
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mockTemplate).findAndModify(any(Query.class), updateCaptor.capture(), optionsCaptor.capture(),
+                eq(Student.class));
+        assertThat(updateCaptor.getValue().getUpdateObject().get("$inc", Document.class))
+                .containsEntry("version", 1);
+        assertTrue(optionsCaptor.getValue().isUpsert());
+        verify(mockRepository, never()).save(any());
+    }
+
+    @DisplayName("Update with stale If-Match is rejected")
+    @Test
+    void update_WithStaleIfMatch_ShouldThrowOptimisticLockingFailure() {
+        StudentUpdateRequest request = new StudentUpdateRequest("1", "Alex", 21, "Male");
+        given(mockTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Student.class))).willReturn(null);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> underTest.update(request, "\"3\""));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mockTemplate).findAndModify(queryCaptor.capture(), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Student.class));
+        assertThat(queryCaptor.getValue().getQueryObject()).containsKey("version");
     }
 
     @DisplayName("Update student when student not found")
     @Test
     void update_WhenStudentNotFound_ShouldReturnNull() {
         StudentUpdateRequest request = new StudentUpdateRequest("123", "Alex", 21, "Male");
-        given(mockRepository.findById("123")).willReturn(java.util.Optional.empty());
+        given(mockTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Student.class))).willReturn(null);
 
         Student result = underTest.update(request);
 
         assertThat(result).isNull();
-        verify(mockRepository).findById("123");
+        verify(mockRepository, never()).save(any());
     }
 
     @DisplayName("Create student maps correctly from request")
@@ -321,31 +375,78 @@ class StudentServiceMockTest {
     @DisplayName("Update student appends update date")
     @Test
     void update_ShouldAddUpdateDate() {
-        Student existing = Student.builder()
-                .id("10")
-                .name("Misha")
-                .age(18)
-                .gender("Male")
-                .createDate(LocalDateTime.now().minusDays(5))
-                .updateDate(new ArrayList<>())
-                .build();
-        given(mockRepository.findById("10")).willReturn(java.util.Optional.of(existing));
         StudentUpdateRequest request = new StudentUpdateRequest("10", "Misha", 19, "Male");
 
         underTest.update(request);
 
-        verify(mockRepository).save(argumentCaptor.capture());
-        Student updated = argumentCaptor.getValue();
-        assertThat(updated.getUpdateDate()).hasSize(1);
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mockTemplate).findAndModify(any(Query.class), updateCaptor.capture(), optionsCaptor.capture(),
+                eq(Student.class));
+        assertThat(updateCaptor.getValue().getUpdateObject().get("$push", Document.class))
+                .containsKey("updateDate");
+        assertTrue(optionsCaptor.getValue().isReturnNew());
+    }
+
+    @DisplayName("Get by ID is served from cache on repeated reads")
+    @Test
+    void getById_WhenCalledTwice_ShouldHitRepositoryOnce() {
+        given(mockRepository.findById("1")).willReturn(Optional.of(new Student("1", "Alex", 20, "Male")));
+
+        underTest.getById("1");
+        Student result = underTest.getById("1");
+
+        assertThat(result.getName()).isEqualTo("Alex");
+        verify(mockRepository, times(1)).findById("1");
+    }
+
+    @DisplayName("Get by ID does not cache missing students")
+    @Test
+    void getById_WhenMissing_ShouldNotCacheNull() {
+        given(mockRepository.findById("1")).willReturn(Optional.empty());
+
+        underTest.getById("1");
+        underTest.getById("1");
+
+        verify(mockRepository, times(2)).findById("1");
+    }
+
+    @DisplayName("Update with DTO evicts cached student")
+    @Test
+    void update_ShouldEvictCachedStudent() {
+        given(mockRepository.findById("1")).willReturn(Optional.of(new Student("1", "Alex", 20, "Male")),
+                Optional.of(new Student("1", "Alexander", 21, "Male")));
+        given(mockTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Student.class))).willReturn(new Student("1", "Alexander", 21, "Male"));
+        underTest.getById("1");
+
+        underTest.update(new StudentUpdateRequest("1", "Alexander", 21, "Male"));
+
+        assertThat(underTest.getById("1").getName()).isEqualTo("Alexander");
+        verify(mockRepository, times(2)).findById("1");
+    }
+
+    @DisplayName("Delete by ID evicts cached student")
+    @Test
+    void deleteById_ShouldEvictCachedStudent() {
+        given(mockRepository.findById("1")).willReturn(Optional.of(new Student("1", "Alex", 20, "Male")));
+        underTest.getById("1");
+
+        underTest.deleteById("1");
+        given(mockRepository.findById("1")).willReturn(Optional.empty());
+
+        assertThat(underTest.getById("1")).isNull();
     }
 
-    @DisplayName("Init method clears and saves students")
+    @DisplayName("Update with full object evicts cached student")
     @Test
-    void init_ShouldClearAndSaveStudents() {
-        underTest.init();
+    void updateStudentObject_ShouldEvictCachedStudent() {
+        given(mockRepository.findById("1")).willReturn(Optional.of(new Student("1", "Alex", 20, "Male")));
+        underTest.getById("1");
+
+        underTest.update(new Student("1", "Alex", 22, "Male"));
+        underTest.getById("1");
 
-        verify(mockRepository).deleteAll();
-        verify(mockRepository).saveAll(anyList());
+        verify(mockRepository, times(2)).findById("1");
     }
 }
 
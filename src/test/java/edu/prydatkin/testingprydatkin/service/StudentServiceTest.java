@@ -13,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -89,6 +90,15 @@ class StudentServiceTest {
         assertEquals(1, all.size());
     }
 
+    @Test
+    void testStreamAllReturnsInsertedStudents() {
+        underTest.create(new Student("First", 20, "Male"));
+        underTest.create(new Student("Second", 21, "Female"));
+        try (Stream<Student> students = underTest.streamAll()) {
+            assertEquals(2, students.count());
+        }
+    }
+
     @Test
     void testGetByIdReturnsCorrectStudent() {
         Student student = underTest.create(new Student("Anna", 22, "Female"));
@@ -144,12 +154,6 @@ class StudentServiceTest {
         assertDoesNotThrow(() -> underTest.deleteById("nonexistent"));
     }
 
-    @Test
-    void testInitMethodAddsThreeStudents() {
-        underTest.init();
-        assertEquals(3, repository.findAll().size());
-    }
-
     @Test
     void testCreatedStudentHasEmptyUpdateDate() {
         StudentCreateRequest request = new StudentCreateRequest("Fresh", 21, "Female");
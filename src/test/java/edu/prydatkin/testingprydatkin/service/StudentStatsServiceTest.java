@@ -0,0 +1,88 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.response.StudentAgeBucket;
+import edu.prydatkin.testingprydatkin.response.StudentStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentStatsServiceTest
+    @version 1.0.0
+    @since 10/18/2026 - 20.30
+*/
+
+@SpringBootTest
+class StudentStatsServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentStatsService underTest;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testGetStatsAggregatesGendersAgesAndCreations() {
+        LocalDateTime today = LocalDate.now().atTime(10, 0);
+        repository.saveAll(List.of(
+                student("Anna", 17, "Female", today),
+                student("Olha", 19, "Female", today),
+                student("Borys", 25, "Male", today.minusDays(1)),
+                student("Old", 70, "Male", today.minusDays(100))));
+
+        StudentStats stats = underTest.getStats("0,18,21", 7);
+
+        assertEquals(4, stats.total());
+        assertEquals(Map.of("Female", 2L, "Male", 2L), stats.genders());
+        assertEquals(List.of(new StudentAgeBucket(0, 18, 1), new StudentAgeBucket(18, 21, 1),
+                new StudentAgeBucket(null, null, 2)), stats.ageHistogram());
+        assertEquals(17, stats.minAge());
+        assertEquals(70, stats.maxAge());
+        assertEquals(32.75, stats.averageAge(), 0.001);
+        assertEquals(Map.of(today.toLocalDate(), 2L, today.toLocalDate().minusDays(1), 1L), stats.createdPerDay());
+    }
+
+    @Test
+    void testGetStatsOnEmptyCollection() {
+        StudentStats stats = underTest.getStats(null, null);
+
+        assertEquals(0, stats.total());
+        assertTrue(stats.genders().isEmpty());
+        assertTrue(stats.ageHistogram().stream().allMatch(bucket -> bucket.count() == 0));
+        assertNull(stats.averageAge());
+    }
+
+    @Test
+    void testGetStatsWithDescendingBucketsThrows() {
+        assertThrows(IllegalArgumentException.class, () -> underTest.getStats("30,18", null));
+    }
+
+    private Student student(String name, int age, String gender, LocalDateTime createDate) {
+        Student student = new Student(name, age, gender);
+        student.setCreateDate(createDate);
+        return student;
+    }
+}
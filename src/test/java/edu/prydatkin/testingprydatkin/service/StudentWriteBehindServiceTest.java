@@ -0,0 +1,137 @@
+package edu.prydatkin.testingprydatkin.service;
+
+import edu.prydatkin.testingprydatkin.config.StudentWriteBehindProperties;
+import edu.prydatkin.testingprydatkin.model.Student;
+import edu.prydatkin.testingprydatkin.repository.StudentRepository;
+import edu.prydatkin.testingprydatkin.request.StudentCreateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+    @author lilbl
+    @project testingPrydatkin
+    @class StudentWriteBehindServiceTest
+    @version 1.0.0
+    @since 10/19/2026 - 15.10
+*/
+
+// write-behind is off in the application context, so each test builds and starts its own queue
+@SpringBootTest
+class StudentWriteBehindServiceTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private StudentBulkService studentBulkService;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testEnqueuedCreatesAreWrittenInBatches() {
+        StudentWriteBehindService underTest = writeBehind(studentBulkService, 10, 2);
+        underTest.start();
+
+        Student anna = underTest.enqueue(new StudentCreateRequest("Anna", 19, "Female"));
+        underTest.enqueue(new StudentCreateRequest("Borys", 20, "Male"));
+        underTest.enqueue(new StudentCreateRequest("Sam", 22, "Other"));
+        underTest.stop();
+
+        assertNotNull(anna.getId());
+        assertEquals(3, repository.count());
+        Student stored = repository.findById(anna.getId()).orElseThrow();
+        assertEquals("Anna", stored.getName());
+        assertEquals(3, registry.get("student.write-behind.items").tag("status", "created").counter().count());
+        assertEquals(0, underTest.queueDepth());
+    }
+
+    @Test
+    void testGenderRuleIsAppliedAtFlush() {
+        StudentWriteBehindService underTest = writeBehind(studentBulkService, 10, 10);
+        underTest.start();
+
+        underTest.enqueue(new StudentCreateRequest("Anna", 19, "Female"));
+        underTest.enqueue(new StudentCreateRequest("Olha", 21, "Female"));
+        underTest.stop();
+
+        assertEquals(1, repository.count());
+        assertEquals(1, registry.get("student.write-behind.items").tag("status", "rejected").counter().count());
+    }
+
+    @Test
+    void testFullQueueIsRefused() throws InterruptedException {
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StudentBulkService blocked = mock(StudentBulkService.class);
+        when(blocked.createAll(anyList(), anyList(), anyList())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await();
+            return List.of();
+        });
+        StudentWriteBehindService underTest = writeBehind(blocked, 1, 1);
+        underTest.start();
+
+        underTest.enqueue(new StudentCreateRequest("Anna", 19, "Female"));
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        underTest.enqueue(new StudentCreateRequest("Borys", 20, "Male"));
+
+        assertThrows(RejectedExecutionException.class,
+                () -> underTest.enqueue(new StudentCreateRequest("Sam", 22, "Other")));
+        assertEquals(1, registry.get("student.write-behind.overflow").counter().count());
+        release.countDown();
+        underTest.stop();
+    }
+
+    @Test
+    void testInvalidCreateIsRefusedBeforeQueueing() {
+        StudentWriteBehindService underTest = writeBehind(studentBulkService, 10, 10);
+        underTest.start();
+
+        StudentCreateRequest invalid = new StudentCreateRequest("", 19, "Female");
+        IllegalArgumentException refused = assertThrows(IllegalArgumentException.class,
+                () -> underTest.enqueue(invalid));
+        assertEquals(studentBulkService.validate(invalid), refused.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> underTest.enqueue(null));
+        assertEquals(0, underTest.queueDepth());
+        underTest.stop();
+    }
+
+    @Test
+    void testStoppedQueueRefusesCreates() {
+        StudentWriteBehindService underTest = writeBehind(studentBulkService, 10, 10);
+
+        assertThrows(RejectedExecutionException.class,
+                () -> underTest.enqueue(new StudentCreateRequest("Anna", 19, "Female")));
+        assertEquals(0, repository.count());
+    }
+
+    private StudentWriteBehindService writeBehind(StudentBulkService bulkService, int capacity, int batchSize) {
+        return new StudentWriteBehindService(bulkService, new StudentWriteBehindProperties(true, capacity, batchSize,
+                Duration.ofMillis(20), 0, Duration.ofSeconds(10)), registry);
+    }
+}
@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+#
+# Platform vs virtual request threads under the same load (TestingPrydatkinLoadTests), throughput and p99 of both:
+#   src/test/scripts/compare-threading.sh
+#   src/test/scripts/compare-threading.sh -Dload.concurrency=200 -Dload.mongo.uri=mongodb://host:27017/loadtest
+# Extra arguments go to both Maven runs. The virtual-thread run builds with -Pjava21 and needs Maven on a JDK 21+
+# (JAVA_HOME); on an older JDK it fails and is reported as not measured rather than run on platform threads.
+#
+set -uo pipefail
+
+cd "$(dirname "$0")/../../.."
+MVN="${MVN:-./mvnw}"
+
+run() {
+    local threads="$1"
+    shift
+    local result
+    result=$("$MVN" -B -Ploadtest test "$@" | tee "target/load-${threads}.log" | grep '^load result:' | tail -1)
+    if [ -z "$result" ]; then
+        echo "load result: threads=${threads} not measured, see target/load-${threads}.log"
+    else
+        echo "$result"
+    fi
+}
+
+mkdir -p target
+platform=$(run platform "$@")
+virtual=$(run virtual -Pjava21 -Dspring.profiles.active=virtual-threads "$@")
+
+echo
+echo "$platform"
+echo "$virtual"